@@ -0,0 +1,65 @@
+package org.example.scheduler.benchmark;
+
+import org.example.scheduler.security.PasswordHasher;
+import org.example.scheduler.security.VersionedPasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 해시 비용별 해시/검증 시간 벤치마크
+ * - scheduler.password.algorithm, pbkdf2-iterations, bcrypt-strength 설정값을 고를 때 사용
+ * - 검증 결과 캐시 적중 시 비용과 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PasswordHashBenchmark {
+    private static final String PASSWORD = "benchmark-password";
+
+    @State(Scope.Benchmark)
+    public static class HashState {
+        @Param({"pbkdf2:100000", "pbkdf2:310000", "pbkdf2:600000", "bcrypt:10", "bcrypt:12"})
+        public String cost;     // 알고리즘:비용
+
+        VersionedPasswordEncoder encoder;
+        PasswordHasher hasher;
+        String encoded;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] parts = cost.split(":");
+            int value = Integer.parseInt(parts[1]);
+            encoder = parts[0].equals("bcrypt")
+                    ? new VersionedPasswordEncoder("bcrypt", 310000, value)
+                    : new VersionedPasswordEncoder("pbkdf2", value, 10);
+            hasher = new PasswordHasher(encoder, Runtime.getRuntime().availableProcessors(), 256,
+                    Duration.ofMinutes(1), Duration.ofMinutes(5), 10000);
+            encoded = encoder.encode(PASSWORD);
+            hasher.matches(PASSWORD, encoded); // 검증 결과 캐시에 기록
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            hasher.shutdown();
+        }
+    }
+
+    @Benchmark
+    public String encode(HashState state) {
+        return state.encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches(HashState state) {
+        return state.encoder.matches(PASSWORD, state.encoded);
+    }
+
+    @Benchmark
+    public boolean matchesVerifiedCache(HashState state) {
+        return state.hasher.matches(PASSWORD, state.encoded);
+    }
+}
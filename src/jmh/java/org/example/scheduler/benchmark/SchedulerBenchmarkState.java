@@ -0,0 +1,94 @@
+package org.example.scheduler.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.SchedulerApplication;
+import org.example.scheduler.dto.batch.BatchItemResultDto;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.service.CommentService;
+import org.example.scheduler.service.ScheduleService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크 공통 상태
+ * - h2 프로필로 애플리케이션 컨텍스트를 띄우고 일정/댓글 데이터를 미리 적재
+ * - 적재 시간을 줄이기 위해 비밀번호 해시 비용을 낮춤 (해시 비용은 PasswordHashBenchmark에서 따로 측정)
+ */
+@State(Scope.Benchmark)
+public class SchedulerBenchmarkState {
+
+    @Param({"1000", "10000"})
+    public int scheduleCount;       // 적재할 일정 수
+
+    @Param({"10"})
+    public int commentsPerSchedule; // 일정당 적재할 댓글 수
+
+    public ConfigurableApplicationContext context;
+    public ObjectMapper objectMapper;
+    public ScheduleService scheduleService;
+    public CommentService commentService;
+    public List<Long> scheduleIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SchedulerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("h2")
+                .properties("scheduler.password.algorithm=pbkdf2", "scheduler.password.pbkdf2-iterations=1000")
+                .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        scheduleService = context.getBean(ScheduleService.class);
+        commentService = context.getBean(CommentService.class);
+
+        List<ScheduleRequestDto> schedules = IntStream.range(0, scheduleCount)
+                .mapToObj(this::scheduleRequest)
+                .collect(Collectors.toList());
+        scheduleIds = scheduleService.saveSchedules(schedules).getResults().stream()
+                .map(BatchItemResultDto::getData)
+                .map(ScheduleResponseDto::getId)
+                .collect(Collectors.toList());
+
+        List<CommentRequestDto> comments = IntStream.range(0, commentsPerSchedule)
+                .mapToObj(this::commentRequest)
+                .collect(Collectors.toList());
+        for (Long scheduleId : scheduleIds) {
+            commentService.saveComments(comments, scheduleId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public Long randomScheduleId() {
+        return scheduleIds.get(ThreadLocalRandom.current().nextInt(scheduleIds.size()));
+    }
+
+    public ScheduleRequestDto scheduleRequest(int index) {
+        return objectMapper.convertValue(Map.of(
+                "name", "작성자" + (index % 100),
+                "password", "password" + index,
+                "title", "일정 제목 " + index,
+                "content", "벤치마크용 일정 내용입니다. ".repeat(6)
+        ), ScheduleRequestDto.class);
+    }
+
+    public CommentRequestDto commentRequest(int index) {
+        return objectMapper.convertValue(Map.of(
+                "name", "댓글작성자" + index,
+                "password", "password" + index,
+                "content", "벤치마크용 댓글 내용입니다. ".repeat(3)
+        ), CommentRequestDto.class);
+    }
+}
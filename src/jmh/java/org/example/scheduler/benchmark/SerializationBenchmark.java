@@ -0,0 +1,77 @@
+package org.example.scheduler.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.cache.ScheduleJsonCache;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleWithCommentsResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO Jackson 직렬화 벤치마크
+ * - 애플리케이션과 같은 ObjectMapper 설정(LocalDateTime 포맷 포함) 사용
+ * - 목록 응답은 매번 직렬화하는 경우와 캐시된 일정 JSON 조각을 이어 붙이는 경우 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class PayloadState {
+        @Param({"20", "100"})
+        public int pageSize;    // 목록 응답 일정 수
+
+        ObjectMapper objectMapper;
+        ScheduleResponseDto schedule;
+        List<ScheduleResponseDto> schedulePage;
+        SchedulePageResponseDto<ScheduleResponseDto> schedulePageResponse;
+        ScheduleJsonCache scheduleJsonCache;
+        ScheduleWithCommentsResponseDto scheduleWithComments;
+
+        @Setup(Level.Trial)
+        public void setUp(SchedulerBenchmarkState app) {
+            objectMapper = app.objectMapper;
+            schedulePageResponse = app.scheduleService.getAllSchedules(null, pageSize);
+            schedulePage = schedulePageResponse.getSchedules();
+            scheduleJsonCache = app.context.getBean(ScheduleJsonCache.class);
+            schedule = schedulePage.get(0);
+            scheduleWithComments = app.scheduleService.getScheduleWithCommentsById(schedule.getId());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeSchedule(PayloadState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.schedule);
+    }
+
+    @Benchmark
+    public byte[] serializeSchedulePage(PayloadState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.schedulePage);
+    }
+
+    @Benchmark
+    public byte[] serializeScheduleWithComments(PayloadState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.scheduleWithComments);
+    }
+
+    @Benchmark
+    public byte[] serializeSchedulePageResponse(PayloadState state) throws JsonProcessingException {
+        return state.objectMapper.writeValueAsBytes(state.schedulePageResponse);
+    }
+
+    @Benchmark
+    public byte[] writeSchedulePageFromJsonCache(PayloadState state) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(state.pageSize * 256 + 64);
+        state.scheduleJsonCache.writePage(state.schedulePageResponse, outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.benchmark.SchedulerBenchmarkState;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ScheduleService / CommentService 주요 경로 벤치마크
+ * - 목록 조회(키셋 페이지), 기존 방식(findAll + 메모리 정렬 + DTO 변환), 상세 조회, 입력값 검증
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScheduleServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+        ScheduleService scheduleService;
+        CommentService commentService;
+        ScheduleService scheduleServiceTarget;  // 프록시를 거치지 않는 검증용 인스턴스
+        CommentService commentServiceTarget;
+        ScheduleRepository scheduleRepository;
+        TransactionTemplate readOnlyTransaction;
+        ScheduleRequestDto scheduleRequest;
+        CommentRequestDto commentRequest;
+
+        @Setup(Level.Trial)
+        public void setUp(SchedulerBenchmarkState app) {
+            scheduleService = app.scheduleService;
+            commentService = app.commentService;
+            scheduleServiceTarget = target(scheduleService);
+            commentServiceTarget = target(commentService);
+            scheduleRepository = app.context.getBean(ScheduleRepository.class);
+            readOnlyTransaction = new TransactionTemplate(app.context.getBean(PlatformTransactionManager.class));
+            readOnlyTransaction.setReadOnly(true);
+            scheduleRequest = app.scheduleRequest(1);
+            commentRequest = app.commentRequest(1);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T target(T bean) {
+            Object target = AopProxyUtils.getSingletonTarget(bean);
+            return target != null ? (T) target : bean;
+        }
+    }
+
+    @Benchmark
+    public Object listFirstPage(ServiceState state) {
+        return state.scheduleService.getAllSchedules(null, 20);
+    }
+
+    @Benchmark
+    public Object listFirstPageByName(ServiceState state) {
+        return state.scheduleService.getSchedulesByName("작성자1", null, 20);
+    }
+
+    @Benchmark
+    public Object listFirstPageWithComments(ServiceState state) {
+        return state.scheduleService.getSchedulesWithComments(ScheduleSearchCondition.byName(null), null, 20, 3);
+    }
+
+    /**
+     * 키셋 페이지네이션 도입 전 목록 조회 방식 (비교 기준)
+     */
+    @Benchmark
+    public List<ScheduleResponseDto> legacyFindAllSortMap(ServiceState state) {
+        return state.readOnlyTransaction.execute(status -> state.scheduleRepository.findAll()
+                .stream()
+                .sorted(Comparator.comparing(Schedule::getModifiedAt).reversed())
+                .map(ScheduleResponseDto::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 전체 일정을 엔티티로 조회 후 DTO 변환 (영속성 컨텍스트 등록 + 변경 감지 스냅샷 포함)
+     * - projectionListAll 과 -Pjmh.profilers=gc 로 비교하면 gc.alloc.rate.norm / scheduleCount 가 행당 힙 사용량
+     */
+    @Benchmark
+    public List<ScheduleResponseDto> entityListAll(ServiceState state) {
+        return state.readOnlyTransaction.execute(status -> state.scheduleRepository.findAll()
+                .stream()
+                .map(ScheduleResponseDto::new)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 전체 일정을 DTO 프로젝션으로 조회 (응답 컬럼만 조회, 엔티티 없음)
+     */
+    @Benchmark
+    public List<ScheduleResponseDto> projectionListAll(ServiceState state) {
+        return state.readOnlyTransaction.execute(status -> {
+            try (Stream<ScheduleResponseDto> schedules = state.scheduleRepository.streamAll()) {
+                return schedules.collect(Collectors.toList());
+            }
+        });
+    }
+
+    @Benchmark
+    public Object scheduleWithComments(ServiceState state, SchedulerBenchmarkState app) {
+        return state.scheduleService.getScheduleWithCommentsById(app.randomScheduleId());
+    }
+
+    @Benchmark
+    public void validateScheduleRequest(ServiceState state) {
+        state.scheduleServiceTarget.validateScheduleRequest(state.scheduleRequest, "등록");
+    }
+
+    @Benchmark
+    public void validateCommentRequest(ServiceState state) {
+        state.commentServiceTarget.validateCommentRequest(state.commentRequest, "등록");
+    }
+}
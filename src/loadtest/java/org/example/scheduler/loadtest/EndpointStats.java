@@ -0,0 +1,63 @@
+package org.example.scheduler.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API별 응답 시간 분포와 오류 수 집계
+ * - 응답 시간은 요청을 보냈어야 할 시각부터 측정하여 서버가 밀릴 때의 대기 시간도 포함 (coordinated omission 보정)
+ */
+class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    void record(long latencyNanos, boolean success) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 워밍업 구간 기록 삭제
+     */
+    void reset() {
+        recorder.reset();
+        errors.reset();
+        histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    /**
+     * 측정 결과 요약
+     *
+     * @param elapsedSeconds 측정 시간 (초)
+     */
+    Map<String, Object> summarize(double elapsedSeconds) {
+        histogram.add(recorder.getIntervalHistogram());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughput", round(histogram.getTotalCount() / elapsedSeconds));
+        summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.scheduler.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 지정)
+ * - loadtest.rate: 초당 요청 수 (전체 합계)
+ * - loadtest.clients: 동시에 요청을 보내는 클라이언트 수
+ * - loadtest.duration / loadtest.warmup: 측정 시간 / 측정 전 워밍업 시간 (예: 60s, 2m)
+ * - loadtest.seed-schedules: 미리 적재할 일정 수
+ * - loadtest.mix: 요청 비율 (예: list:40,detail:30,create:10)
+ * - loadtest.report: JSON 리포트 경로
+ * - loadtest.virtual-threads: true면 서버를 가상 스레드 모드(spring.threads.virtual.enabled)로 실행
+ * - loadtest.admission: true면 요청 수락 제어(scheduler.admission.enabled) 사용 (부하 발생기가 한 클라이언트이므로 기본 false)
+ */
+public class LoadTestConfig {
+    private static final String DEFAULT_MIX = "create:5,list:30,list-by-name:15,detail:35,patch:5,delete:3,comment:7";
+
+    final int rate;
+    final int clients;
+    final Duration duration;
+    final Duration warmup;
+    final int seedSchedules;
+    final Map<LoadTestOperation, Integer> mix;
+    final String report;
+    final boolean virtualThreads;
+    final boolean admission;
+
+    private LoadTestConfig(int rate, int clients, Duration duration, Duration warmup, int seedSchedules,
+                           Map<LoadTestOperation, Integer> mix, String report, boolean virtualThreads, boolean admission) {
+        this.rate = rate;
+        this.clients = clients;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.seedSchedules = seedSchedules;
+        this.mix = mix;
+        this.report = report;
+        this.virtualThreads = virtualThreads;
+        this.admission = admission;
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.rate", 500),
+                Integer.getInteger("loadtest.clients", 64),
+                parseDuration(System.getProperty("loadtest.duration", "60s")),
+                parseDuration(System.getProperty("loadtest.warmup", "10s")),
+                Integer.getInteger("loadtest.seed-schedules", 10000),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                System.getProperty("loadtest.report", "build/reports/loadtest/report.json"),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")),
+                Boolean.parseBoolean(System.getProperty("loadtest.admission", "false")));
+    }
+
+    /**
+     * 요청 비율 파싱 (operation:weight 쉼표 구분)
+     */
+    private static Map<LoadTestOperation, Integer> parseMix(String mix) {
+        Map<LoadTestOperation, Integer> weights = new EnumMap<>(LoadTestOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(LoadTestOperation.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 비율이 0보다 큰 요청이 하나 이상 필요합니다: " + mix);
+        }
+        return weights;
+    }
+
+    /**
+     * 10s, 500ms, 2m 형식의 시간 파싱
+     */
+    private static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("지원하지 않는 시간 형식입니다: " + value);
+        };
+    }
+}
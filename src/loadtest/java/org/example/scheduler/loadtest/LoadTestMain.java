@@ -0,0 +1,278 @@
+package org.example.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.scheduler.SchedulerApplication;
+import org.example.scheduler.dto.batch.BatchItemResultDto;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.service.CommentService;
+import org.example.scheduler.service.ScheduleService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트 실행기
+ * - h2 프로필로 SchedulerApplication을 임의 포트에 띄우고 일정/댓글을 미리 적재
+ * - 설정한 비율(mix)의 API 요청을 고정 속도(rate)로 발생시켜 clients 개의 스레드가 처리
+ * - 요청 속도는 응답과 상관없이 유지하고(open model), 밀린 요청은 대기 시간까지 응답 시간에 포함
+ * - API별 처리량과 p50/p99/p99.9 응답 시간을 출력하고 JSON 리포트로 저장
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.rate=500 -Ploadtest.duration=60s
+ * 가상 스레드 모드 비교: 같은 설정에 -Ploadtest.virtual-threads=true, -Ploadtest.report=... 만 바꿔 두 번 실행
+ */
+public class LoadTestMain {
+    private static final String PASSWORD = "password";
+    private static final int SEED_CHUNK = 1000;
+    private static final int SEED_COMMENTS_PER_SCHEDULE = 3;
+    private static final int AUTHOR_COUNT = 100;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<LoadTestOperation, EndpointStats> stats = new EnumMap<>(LoadTestOperation.class);
+    private final ConcurrentLinkedQueue<Long> deletableIds = new ConcurrentLinkedQueue<>(); // 부하 테스트 중 생성한 일정
+    private final AtomicLong sequence = new AtomicLong();
+    private final LoadTestOperation[] weightedOperations;
+
+    private String baseUrl;
+    private List<Long> seededIds;
+
+    private LoadTestMain(LoadTestConfig config) {
+        this.config = config;
+        for (LoadTestOperation operation : LoadTestOperation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+        List<LoadTestOperation> operations = new ArrayList<>();
+        config.mix.forEach((operation, weight) -> IntStream.range(0, weight).forEach(i -> operations.add(operation)));
+        this.weightedOperations = operations.toArray(new LoadTestOperation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestMain(LoadTestConfig.fromSystemProperties()).run();
+    }
+
+    private void run() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SchedulerApplication.class)
+                .profiles("h2")
+                .properties("server.port=0", "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + config.virtualThreads,
+                        "scheduler.admission.enabled=" + config.admission)
+                .run();
+        try {
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            seed(context);
+            drive();
+            report();
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 일정과 댓글 적재 (HTTP를 거치지 않고 서비스로 일괄 등록)
+     */
+    private void seed(ConfigurableApplicationContext context) {
+        ScheduleService scheduleService = context.getBean(ScheduleService.class);
+        CommentService commentService = context.getBean(CommentService.class);
+        ObjectMapper mapper = context.getBean(ObjectMapper.class);
+
+        seededIds = new ArrayList<>(config.seedSchedules);
+        for (int offset = 0; offset < config.seedSchedules; offset += SEED_CHUNK) {
+            List<ScheduleRequestDto> chunk = IntStream.range(offset, Math.min(offset + SEED_CHUNK, config.seedSchedules))
+                    .mapToObj(i -> mapper.convertValue(scheduleBody(i), ScheduleRequestDto.class))
+                    .collect(Collectors.toList());
+            scheduleService.saveSchedules(chunk).getResults().stream()
+                    .map(BatchItemResultDto::getData)
+                    .map(ScheduleResponseDto::getId)
+                    .forEach(seededIds::add);
+        }
+
+        List<CommentRequestDto> comments = IntStream.range(0, SEED_COMMENTS_PER_SCHEDULE)
+                .mapToObj(i -> mapper.convertValue(commentBody(i), CommentRequestDto.class))
+                .collect(Collectors.toList());
+        seededIds.parallelStream() // 일정마다 댓글 비밀번호를 해시하므로 해시 스레드 수만큼 나눠 적재
+                .forEach(scheduleId -> commentService.saveComments(comments, scheduleId));
+        System.out.printf("적재 완료: 일정 %d건, 댓글 %d건%n", seededIds.size(), seededIds.size() * SEED_COMMENTS_PER_SCHEDULE);
+    }
+
+    /**
+     * 고정 속도로 요청 발생
+     * - 요청마다 보내야 할 시각(intended)을 정해두고, 워커가 밀려 늦게 보내도 그 시각부터 응답 시간을 측정
+     */
+    private void drive() throws InterruptedException {
+        ExecutorService clients = Executors.newFixedThreadPool(config.clients);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long start = System.nanoTime();
+        long measureStart = start + config.warmup.toNanos();
+        long end = measureStart + config.duration.toNanos();
+        boolean measuring = config.warmup.isZero();
+
+        System.out.printf("부하 시작: %d req/s, 클라이언트 %d, 워밍업 %s, 측정 %s, 서버 스레드 %s%n", config.rate, config.clients,
+                config.warmup, config.duration, config.virtualThreads ? "virtual" : "platform");
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && intended >= measureStart) {
+                stats.values().forEach(EndpointStats::reset);
+                measuring = true;
+            }
+            LoadTestOperation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+            clients.execute(() -> execute(operation, intended));
+        }
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 요청 한 건 실행 후 결과 기록
+     */
+    private void execute(LoadTestOperation operation, long intended) {
+        boolean success = false;
+        try {
+            HttpRequest request = buildRequest(operation);
+            if (request == null) { // 삭제할 일정이 아직 없으면 건너뜀
+                return;
+            }
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            success = response.statusCode() / 100 == 2;
+            if (success && operation == LoadTestOperation.CREATE) {
+                JsonNode created = objectMapper.readTree(response.body());
+                deletableIds.add(created.get("id").asLong());
+            }
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stats.get(operation).record(System.nanoTime() - intended, success);
+    }
+
+    private HttpRequest buildRequest(LoadTestOperation operation) throws IOException {
+        long n = sequence.incrementAndGet();
+        return switch (operation) {
+            case CREATE -> json("/schedules", "POST", scheduleBody(n));
+            case LIST -> get("/schedules?size=20");
+            case LIST_BY_NAME -> get("/schedules?size=20&name=" + URLEncoder.encode(author(randomIndex()), StandardCharsets.UTF_8));
+            case DETAIL -> get("/schedules/" + randomSeededId());
+            case PATCH -> json("/schedules/" + randomSeededId(), "PATCH", Map.of("password", PASSWORD, "title", "수정된 제목 " + n));
+            case DELETE -> {
+                Long id = deletableIds.poll();
+                yield id == null ? null : json("/schedules/" + id, "DELETE", Map.of("password", PASSWORD));
+            }
+            case COMMENT -> json("/schedules/" + randomSeededId() + "/comments", "POST", commentBody(n));
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Map<String, Object> body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    /**
+     * 콘솔 표와 JSON 리포트 출력
+     */
+    private void report() throws IOException {
+        double seconds = config.duration.toMillis() / 1000.0;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-14s %10s %8s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)");
+        for (LoadTestOperation operation : config.mix.keySet()) {
+            Map<String, Object> summary = stats.get(operation).summarize(seconds);
+            endpoints.put(operation.getLabel(), summary);
+            System.out.printf("%-14s %10d %8d %10.2f %10.2f %10.2f %10.2f%n", operation.getLabel(),
+                    summary.get("count"), summary.get("errors"), summary.get("throughput"),
+                    summary.get("p50Ms"), summary.get("p99Ms"), summary.get("p999Ms"));
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("rate", config.rate);
+        settings.put("clients", config.clients);
+        settings.put("durationSeconds", config.duration.toSeconds());
+        settings.put("warmupSeconds", config.warmup.toSeconds());
+        settings.put("seedSchedules", config.seedSchedules);
+        settings.put("virtualThreads", config.virtualThreads);
+        settings.put("admission", config.admission);
+        settings.put("mix", config.mix.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().getLabel(), Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", settings);
+        report.put("endpoints", endpoints);
+        File reportFile = new File(config.report);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("리포트 저장: " + reportFile.getPath());
+    }
+
+    private Long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private static int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(AUTHOR_COUNT);
+    }
+
+    private static String author(long index) {
+        return "작성자" + (index % AUTHOR_COUNT);
+    }
+
+    private static Map<String, Object> scheduleBody(long index) {
+        return Map.of(
+                "name", author(index),
+                "password", PASSWORD,
+                "title", "일정 제목 " + index,
+                "content", "부하 테스트용 일정 내용입니다. ".repeat(5));
+    }
+
+    private static Map<String, Object> commentBody(long index) {
+        return Map.of(
+                "name", "댓글작성자" + (index % AUTHOR_COUNT),
+                "password", PASSWORD,
+                "content", "부하 테스트용 댓글 내용입니다.");
+    }
+}
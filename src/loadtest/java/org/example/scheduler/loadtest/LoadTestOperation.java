@@ -0,0 +1,33 @@
+package org.example.scheduler.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 API
+ */
+public enum LoadTestOperation {
+    CREATE("create"),               // POST /schedules
+    LIST("list"),                   // GET /schedules
+    LIST_BY_NAME("list-by-name"),   // GET /schedules?name=
+    DETAIL("detail"),               // GET /schedules/{id}
+    PATCH("patch"),                 // PATCH /schedules/{id}
+    DELETE("delete"),               // DELETE /schedules/{id} (부하 테스트 중 생성한 일정만 삭제)
+    COMMENT("comment");             // POST /schedules/{id}/comments
+
+    private final String label;
+
+    LoadTestOperation(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    static LoadTestOperation fromName(String label) {
+        for (LoadTestOperation operation : values()) {
+            if (operation.label.equals(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 요청입니다: " + label);
+    }
+}
@@ -0,0 +1,245 @@
+package org.example.scheduler.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크
+ * - extractBootJar로 풀어둔 실행 jar를 모드별 JVM 옵션/인자로 새 프로세스에서 실행
+ * - 프로세스 시작부터 GET /schedules?size=1이 500 미만으로 처음 응답할 때까지의 시간(time-to-first-request) 측정
+ * - 첫 응답 직후 프로세스의 RSS 측정 (/proc/{pid}/status의 VmRSS, 없으면 ps)
+ * - 모드마다 runs번 반복하여 중앙값/최솟값을 출력하고 JSON 리포트로 저장
+ *
+ * 모드
+ * - baseline: 기존 설정 (ddl-auto: update, 기동 시 DB 메타데이터 조회, Flyway 사용 안 함)
+ * - default: 현재 설정 (Flyway 마이그레이션, 메타데이터 조회 생략)
+ * - cds: default + 학습 실행으로 만든 CDS 아카이브(application.jsa)
+ * - aot / aot-cds: -Paot로 빌드한 경우 AOT 처리 결과 사용 (spring.aot.enabled=true), 아카이브 유무
+ *
+ * 실행: ./gradlew startupBenchmark -Pstartup.runs=5 (MySQL 필요, 접속 정보는 -Pstartup.args로 전달)
+ * AOT 포함 비교: ./gradlew startupBenchmark -Paot
+ */
+public class StartupBenchmarkMain {
+    private static final String ARCHIVE_FILE = "application.jsa";
+
+    private final Path appDir;
+    private final String jar;
+    private final int runs;
+    private final Duration timeout;
+    private final List<String> modes;
+    private final List<String> extraArgs;
+    private final String report;
+    private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupBenchmarkMain() {
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        this.appDir = Path.of(System.getProperty("startup.app-dir", "build/cds/app"));
+        this.jar = System.getProperty("startup.jar", "scheduler-0.0.1-SNAPSHOT.jar");
+        this.runs = Integer.getInteger("startup.runs", 5);
+        this.timeout = Duration.ofSeconds(Integer.getInteger("startup.timeout-seconds", 120));
+        this.modes = split(System.getProperty("startup.modes", aot ? "baseline,default,cds,aot,aot-cds" : "baseline,default,cds"), ",");
+        this.extraArgs = split(System.getProperty("startup.args", ""), " ");
+        this.report = System.getProperty("startup.report", "build/reports/startup/report.json");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmarkMain().run();
+    }
+
+    private void run() throws Exception {
+        if (!Files.exists(appDir.resolve(jar))) {
+            throw new IllegalStateException("실행 jar가 없습니다. ./gradlew extractBootJar를 먼저 실행하세요: " + appDir.resolve(jar));
+        }
+        Map<String, Object> results = new LinkedHashMap<>();
+        System.out.printf("%n%-10s %12s %12s %10s %10s%n", "mode", "ttfr p50(ms)", "ttfr min(ms)", "rss p50(MB)", "rss min(MB)");
+        for (String mode : modes) {
+            List<Long> startupMillis = new ArrayList<>(runs);
+            List<Long> rssKb = new ArrayList<>(runs);
+            for (int i = 0; i < runs; i++) {
+                long[] sample = measure(mode, i);
+                startupMillis.add(sample[0]);
+                rssKb.add(sample[1]);
+            }
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("timeToFirstRequestMs", summarize(startupMillis));
+            summary.put("rssKb", summarize(rssKb));
+            results.put(mode, summary);
+            System.out.printf("%-10s %12d %12d %10.1f %10.1f%n", mode, median(startupMillis), Collections.min(startupMillis),
+                    median(rssKb) / 1024.0, Collections.min(rssKb) / 1024.0);
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("jar", jar);
+        settings.put("runs", runs);
+        settings.put("args", extraArgs);
+        settings.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> reportBody = new LinkedHashMap<>();
+        reportBody.put("config", settings);
+        reportBody.put("modes", results);
+        File reportFile = new File(report);
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, reportBody);
+        System.out.println("리포트 저장: " + reportFile.getPath());
+    }
+
+    /**
+     * 한 번 기동하여 첫 응답까지의 시간과 그 시점의 RSS 측정
+     *
+     * @return {첫 응답까지 걸린 시간(ms), RSS(KB)}
+     */
+    private long[] measure(String mode, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs(mode));
+        command.add("-jar");
+        command.add(jar);
+        command.addAll(appArgs(mode));
+        command.add("--server.port=" + port);
+        command.add("--logging.level.root=WARN");
+        command.addAll(extraArgs);
+
+        File log = new File(new File(report).getParentFile(), mode + "-" + run + ".log");
+        log.getParentFile().mkdirs();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/schedules?size=1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " 기동 실패 (종료 코드 " + process.exitValue() + "), 로그: " + log.getPath());
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IllegalStateException(mode + " 기동 시간 초과 (" + timeout.toSeconds() + "초), 로그: " + log.getPath());
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 500) {
+                        break;
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트를 열지 않음
+                }
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new long[]{elapsedMillis, rssKb(process.pid())};
+        } finally {
+            process.destroy(); // 정상 종료 (graceful shutdown)
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> jvmArgs(String mode) {
+        List<String> args = new ArrayList<>();
+        if (mode.startsWith("aot")) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+        if (mode.endsWith("cds")) {
+            if (!Files.exists(appDir.resolve(ARCHIVE_FILE))) {
+                throw new IllegalStateException("CDS 아카이브가 없습니다. ./gradlew cdsArchive를 먼저 실행하세요: " + appDir.resolve(ARCHIVE_FILE));
+            }
+            args.add("-XX:SharedArchiveFile=" + ARCHIVE_FILE);
+        }
+        return args;
+    }
+
+    private List<String> appArgs(String mode) {
+        switch (mode) {
+            case "baseline":
+                return List.of("--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true");
+            case "default":
+            case "cds":
+            case "aot":
+            case "aot-cds":
+                return List.of();
+            default:
+                throw new IllegalArgumentException("알 수 없는 모드입니다: " + mode + " (baseline, default, cds, aot, aot-cds)");
+        }
+    }
+
+    /**
+     * 프로세스 RSS 조회 (KB)
+     */
+    private static long rssKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static Map<String, Object> summarize(List<Long> samples) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("median", median(samples));
+        summary.put("min", Collections.min(samples));
+        summary.put("max", Collections.max(samples));
+        summary.put("samples", samples);
+        return summary;
+    }
+
+    private static long median(List<Long> samples) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static List<String> split(String value, String separator) {
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
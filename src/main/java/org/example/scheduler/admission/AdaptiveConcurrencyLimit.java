@@ -0,0 +1,94 @@
+package org.example.scheduler.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 응답 시간에 따라 조정되는 전체 동시 처리 한도 (gradient 방식)
+ * - 평소 응답 시간(긴 구간 지수 이동 평균)과 최근 응답 시간(짧은 구간 지수 이동 평균)의 비율로 한도를 조정
+ *   - 최근 응답 시간이 평소의 tolerance 배 이내면 한도를 조금씩 늘리고(+ sqrt(limit)), 넘으면 비율만큼 줄임
+ *   - DB 커넥션 풀이 포화되어 대기가 생기면 응답 시간이 먼저 늘어나므로, 풀 대기열이 길어지기 전에 한도가 줄어듦
+ * - 한도를 넘는 요청은 기다리지 않고 바로 거절
+ * - 처리 중인 요청이 한도의 절반도 안 되면 한도를 늘리지 않음 (부하가 적을 때 한도가 끝없이 커지지 않도록)
+ */
+class AdaptiveConcurrencyLimit {
+    private static final double LONG_WINDOW_ALPHA = 0.01;   // 평소 응답 시간 반영 비율
+    private static final double SHORT_WINDOW_ALPHA = 0.1;   // 최근 응답 시간 반영 비율
+    private static final double MIN_GRADIENT = 0.5;         // 한 번에 줄이는 최대 비율
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile int limit;
+    private double estimatedLimit;  // 소수점 포함 한도 (lock 보호)
+    private double longRtt;         // 평소 응답 시간, 나노초 (lock 보호)
+    private double shortRtt;        // 최근 응답 시간, 나노초 (lock 보호)
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * 동시 처리 자리 확보
+     *
+     * @return 한도 안이면 true (처리 후 반드시 release 호출)
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 동시 처리 자리 반납 및 응답 시간 반영
+     *
+     * @param rttNanos 요청 처리 시간
+     */
+    void release(long rttNanos) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        lock.lock();
+        try {
+            if (longRtt == 0) {
+                longRtt = rttNanos;
+                shortRtt = rttNanos;
+                return;
+            }
+            shortRtt += (rttNanos - shortRtt) * SHORT_WINDOW_ALPHA;
+            longRtt += (rttNanos - longRtt) * LONG_WINDOW_ALPHA;
+            if (longRtt > shortRtt * 2) { // 부하가 빠진 뒤 평소 응답 시간이 높게 남아 있으면 빠르게 따라 내려감
+                longRtt = shortRtt * 2;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+            double queueAllowance = inFlightAtStart * 2 >= estimatedLimit ? Math.sqrt(estimatedLimit) : 0;
+            double newLimit = estimatedLimit * gradient + queueAllowance;
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - smoothing) + newLimit * smoothing));
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.scheduler.admission;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 수락 제어
+ * - 클라이언트별 토큰 버킷: 요청 종류별 비용만큼 토큰을 써서, 한 클라이언트가 목록/내보내기를 몰아 보내도 다른 클라이언트 몫을 쓰지 못하게 함
+ * - 전체 동시 처리 한도: 응답 시간에 따라 조정(AdaptiveConcurrencyLimit)하여 DB 커넥션 풀이 포화되기 전에 초과 요청을 거절
+ * - 어느 쪽이든 대기열에 넣지 않고 바로 거절하여, 한도 안의 요청 응답 시간이 대기 시간만큼 늘어나지 않게 함
+ */
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControl {
+    private final AdmissionProperties properties;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();   // 클라이언트 키 → 토큰 버킷
+
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong shedCount = new AtomicLong();
+
+    public AdmissionControl(AdmissionProperties properties) {
+        this.properties = properties;
+        this.concurrencyLimit = new AdaptiveConcurrencyLimit(properties.getInitialLimit(), properties.getMinLimit(), properties.getMaxLimit(),
+                properties.getLatencyTolerance(), properties.getSmoothing());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 클라이언트 토큰 사용 시도
+     *
+     * @param clientId 클라이언트 키 (인증된 사용자 또는 원격 주소)
+     * @param expensive 목록/집계/내보내기/일괄 등록 요청 여부
+     * @return 사용했으면 0, 토큰이 모자라면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryConsume(String clientId, boolean expensive) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(clientId,
+                id -> new TokenBucket(properties.getBucketCapacity(), properties.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryConsume(expensive ? properties.getExpensiveCost() : properties.getCheapCost(), now);
+        if (waitNanos > 0) {
+            rateLimitedCount.incrementAndGet();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 전체 동시 처리 자리 확보
+     *
+     * @return 한도 안이면 true (처리 후 반드시 release 호출)
+     */
+    public boolean tryAcquire() {
+        if (concurrencyLimit.tryAcquire()) {
+            return true;
+        }
+        shedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 전체 동시 처리 자리 반납
+     *
+     * @param elapsedNanos 요청 처리 시간 (한도 조정에 사용)
+     */
+    public void release(long elapsedNanos) {
+        concurrencyLimit.release(elapsedNanos);
+    }
+
+    /**
+     * 오래 요청이 없는 클라이언트 버킷 제거 (제거된 클라이언트는 다음 요청 때 가득 찬 버킷으로 시작)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.admission.idle-timeout:5m}")
+    public void removeIdleBuckets() {
+        long idleBefore = System.nanoTime() - properties.getIdleTimeout().toNanos();
+        buckets.values().removeIf(bucket -> bucket.getLastUsedAt() - idleBefore < 0);
+    }
+
+    public int getLimit() {
+        return concurrencyLimit.getLimit();
+    }
+
+    public int getInFlight() {
+        return concurrencyLimit.getInFlight();
+    }
+
+    public int getClientCount() {
+        return buckets.size();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    public long getShedCount() {
+        return shedCount.get();
+    }
+}
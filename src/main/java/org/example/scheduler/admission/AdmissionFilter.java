@@ -0,0 +1,89 @@
+package org.example.scheduler.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.web.ClientIdResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * API 요청 수락 제어 필터 (컨트롤러 앞, 멱등성 키 처리보다 먼저 실행)
+ * - 클라이언트(인증된 사용자 또는 원격 주소)별 토큰이 모자라면 429, 전체 동시 처리 한도를 넘으면 503으로 바로 거절 (둘 다 Retry-After 포함)
+ * - 목록/집계/내보내기/일괄 등록은 비싼 요청, 그 밖의 단건 조회/등록/수정/삭제는 가벼운 요청으로 비용 구분
+ * - 연결을 오래 유지하는 내보내기와 변경 피드는 토큰만 사용하고 동시 처리 한도에서는 제외
+ * - actuator 등 API가 아닌 요청은 제한하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+    private static final Pattern API_PATH = Pattern.compile("^/(schedules|authors|comments)(/.*)?$");
+    private static final Pattern EXPENSIVE_GET_PATH = Pattern.compile("^/schedules(/buckets|/export)?$");
+    private static final Pattern EXPENSIVE_POST_PATH = Pattern.compile("^/schedules(/\\d+/comments)?/batch$");
+    private static final Pattern LONG_LIVED_PATH = Pattern.compile("^/schedules/(export|changes)$");
+    private static final long OVERLOADED_RETRY_AFTER_SECONDS = 1;
+
+    private final AdmissionControl admissionControl;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionControl.isEnabled() || !API_PATH.matcher(path(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String path = path(request);
+        long waitNanos = admissionControl.tryConsume(ClientIdResolver.resolve(request), isExpensive(request.getMethod(), path));
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)),
+                    "요청 제한: 클라이언트별 허용 요청량을 초과했습니다. Retry-After 이후 다시 시도해주세요.");
+            return;
+        }
+
+        if (LONG_LIVED_PATH.matcher(path).matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!admissionControl.tryAcquire()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, OVERLOADED_RETRY_AFTER_SECONDS,
+                    "요청 제한: 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionControl.release(System.nanoTime() - startedAt);
+        }
+    }
+
+    /**
+     * 목록/집계/내보내기 조회와 일괄 등록 여부
+     */
+    static boolean isExpensive(String method, String path) {
+        if ("GET".equals(method)) {
+            return EXPENSIVE_GET_PATH.matcher(path).matches();
+        }
+        return "POST".equals(method) && EXPENSIVE_POST_PATH.matcher(path).matches();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.sendError(status.value(), message);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.scheduler.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 수락 제어 설정 (scheduler.admission.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.admission")
+public class AdmissionProperties {
+    private boolean enabled = false;                        // 클라이언트 키(원격 주소)가 실제 클라이언트인지 확인한 환경에서만 사용
+
+    private double bucketCapacity = 100;                    // 클라이언트별 토큰 버킷 크기 (순간 허용량)
+    private double refillPerSecond = 50;                    // 클라이언트별 초당 토큰 충전량 (지속 허용량)
+    private double cheapCost = 1;                           // 단건 조회 등 가벼운 요청 비용
+    private double expensiveCost = 5;                       // 목록/집계/내보내기/일괄 등록 요청 비용
+    private Duration idleTimeout = Duration.ofMinutes(5);   // 이 시간 동안 요청이 없는 클라이언트 버킷은 제거
+
+    private int initialLimit = 50;                          // 전체 동시 처리 한도 초기값
+    private int minLimit = 10;                              // 동시 처리 한도 최솟값
+    private int maxLimit = 400;                             // 동시 처리 한도 최댓값
+    private double latencyTolerance = 1.5;                  // 평소 응답 시간의 몇 배까지를 정상으로 볼지
+    private double smoothing = 0.2;                         // 한도 변경 반영 비율 (0~1, 클수록 빠르게 변경)
+}
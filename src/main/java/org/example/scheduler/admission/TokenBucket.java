@@ -0,0 +1,54 @@
+package org.example.scheduler.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클라이언트별 토큰 버킷
+ * - 요청마다 비용만큼 토큰을 쓰고, 초당 refillPerSecond 만큼 capacity까지 다시 채움
+ * - 토큰이 모자라면 쓰지 않고, 필요한 토큰이 채워질 때까지의 시간 반환 (Retry-After)
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;          // 남은 토큰 (lock 보호)
+    private long refilledAt;        // 마지막 충전 시각 (lock 보호)
+    private volatile long lastUsedAt;
+
+    TokenBucket(double capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.refilledAt = now;
+        this.lastUsedAt = now;
+    }
+
+    /**
+     * 토큰 사용 시도
+     *
+     * @param cost 요청 비용
+     * @param now 현재 시각 (System.nanoTime)
+     * @return 사용했으면 0, 모자라면 필요한 토큰이 채워질 때까지 남은 나노초
+     */
+    long tryConsume(double cost, long now) {
+        lastUsedAt = now;
+        lock.lock();
+        try {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+            if (tokens >= cost) {
+                tokens -= cost;
+                return 0;
+            }
+            return (long) Math.ceil((cost - tokens) / refillPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+}
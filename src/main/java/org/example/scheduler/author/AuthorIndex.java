@@ -0,0 +1,73 @@
+package org.example.scheduler.author;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 작성자명 검색 인덱스
+ * - 시작 시 저장소의 작성자별 일정 수로 트라이를 채우고, 이후에는 일정 등록/수정/삭제 커밋 이벤트로 갱신
+ * - 롤백된 변경은 반영하지 않도록 커밋 이후(AFTER_COMMIT)에만 처리
+ * - 다른 노드나 DB에 직접 반영된 변경은 재시작 전까지 반영되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthorIndex {
+    private final ScheduleStore scheduleStore;
+    private final AuthorTrie trie = new AuthorTrie();
+
+    @PostConstruct
+    void load() {
+        for (AuthorResponseDto author : scheduleStore.countByName()) {
+            trie.add(author.getName(), author.getScheduleCount());
+        }
+        log.info("작성자 검색 인덱스 로드 완료: 작성자 {}명", trie.size());
+    }
+
+    /**
+     * 접두사로 시작하는 작성자 검색 (대소문자 구분 없음)
+     *
+     * @param prefix 작성자명 접두사
+     * @param limit 최대 결과 수
+     * @return 작성자 목록
+     */
+    public List<AuthorResponseDto> search(String prefix, int limit) {
+        return trie.search(prefix, limit);
+    }
+
+    /**
+     * 등록된 작성자명 수
+     */
+    public int size() {
+        return trie.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> trie.add(event.getName(), 1);
+            case UPDATED -> {
+                if (event.getPreviousName() != null && !event.getPreviousName().equals(event.getName())) {
+                    trie.remove(event.getPreviousName());
+                    trie.add(event.getName(), 1);
+                }
+            }
+            case DELETED -> {
+                if (event.getPreviousName() != null) {
+                    trie.remove(event.getPreviousName());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.scheduler.author;
+
+import org.example.scheduler.dto.author.AuthorResponseDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자명 접두사 검색용 트라이
+ * - 소문자로 바꾼 작성자명을 문자 단위로 저장하여 대소문자 구분 없이 접두사 검색
+ * - 대소문자만 다른 작성자명은 같은 노드에 원래 이름별 일정 수로 보관
+ * - 검색 비용은 접두사 길이 + 결과 수에 비례하여 작성자 수가 늘어도 일정
+ * - 조회는 읽기 잠금, 추가/제거는 쓰기 잠금으로 처리
+ */
+public class AuthorTrie {
+    private final Node root = new Node();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int authorCount;    // 일정이 1개 이상인 작성자명 수 (쓰기 잠금 보호)
+
+    /**
+     * 작성자명의 일정 수 증가
+     *
+     * @param name 작성자명
+     * @param count 증가할 일정 수
+     */
+    public void add(String name, long count) {
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            for (char c : normalize(name).toCharArray()) {
+                node = node.children.computeIfAbsent(c, key -> new Node());
+            }
+            if (node.names.merge(name, count, Long::sum) == count) {
+                authorCount++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 작성자명의 일정 수 1 감소, 0이 되면 제거하고 빈 노드 정리
+     *
+     * @param name 작성자명
+     */
+    public void remove(String name) {
+        lock.writeLock().lock();
+        try {
+            Deque<Node> path = new ArrayDeque<>();
+            Node node = root;
+            for (char c : normalize(name).toCharArray()) {
+                path.push(node);
+                node = node.children.get(c);
+                if (node == null) {
+                    return;
+                }
+            }
+            Long count = node.names.get(name);
+            if (count == null) {
+                return;
+            }
+            if (count > 1) {
+                node.names.put(name, count - 1);
+                return;
+            }
+            node.names.remove(name);
+            authorCount--;
+
+            String key = normalize(name);
+            for (int i = key.length() - 1; i >= 0 && node.isEmpty(); i--) { // 비어 있는 노드를 아래에서부터 제거
+                Node parent = path.pop();
+                parent.children.remove(key.charAt(i));
+                node = parent;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 작성자 검색 (대소문자 구분 없음)
+     *
+     * @param prefix 작성자명 접두사
+     * @param limit 최대 결과 수
+     * @return 소문자 기준 사전순 작성자 목록
+     */
+    public List<AuthorResponseDto> search(String prefix, int limit) {
+        List<AuthorResponseDto> authors = new ArrayList<>(Math.min(limit, 16));
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (char c : normalize(prefix).toCharArray()) {
+                node = node.children.get(c);
+                if (node == null) {
+                    return authors;
+                }
+            }
+            collect(node, authors, limit);
+            return authors;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 작성자명 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return authorCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 노드부터 전위 순회하며 결과를 limit개까지 수집 (재귀 없이 스택 사용)
+     */
+    private void collect(Node start, List<AuthorResponseDto> authors, int limit) {
+        Deque<Iterator<Node>> stack = new ArrayDeque<>();
+        Node node = start;
+        while (true) {
+            for (Map.Entry<String, Long> entry : node.names.entrySet()) {
+                if (authors.size() == limit) {
+                    return;
+                }
+                authors.add(new AuthorResponseDto(entry.getKey(), entry.getValue()));
+            }
+            stack.push(node.children.values().iterator());
+            while (!stack.isEmpty() && !stack.peek().hasNext()) {
+                stack.pop();
+            }
+            if (stack.isEmpty()) {
+                return;
+            }
+            node = stack.peek().next();
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();  // 다음 문자 → 자식 노드 (사전순)
+        private final TreeMap<String, Long> names = new TreeMap<>();        // 이 노드에서 끝나는 원래 작성자명 → 일정 수
+
+        private boolean isEmpty() {
+            return children.isEmpty() && names.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.scheduler.cache;
+
+import lombok.Getter;
+
+/**
+ * 캐시 통계 스냅샷
+ */
+@Getter
+public class CacheStats {
+    private final long hitCount;            // 캐시 적중 횟수
+    private final long missCount;           // 캐시 미스 횟수
+    private final long evictionCount;       // 용량 초과/만료로 제거된 횟수
+    private final long invalidationCount;   // 변경으로 무효화된 횟수
+    private final int size;                 // 현재 항목 수
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, long invalidationCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+    }
+}
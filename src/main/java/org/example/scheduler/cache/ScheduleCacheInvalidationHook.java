@@ -0,0 +1,16 @@
+package org.example.scheduler.cache;
+
+/**
+ * 일정 캐시 무효화 확장 지점
+ * - 로컬 캐시 무효화 이후 호출됨
+ * - 다중 노드 배포 시 다른 노드에 무효화를 전파하는 구현을 빈으로 등록하여 사용
+ */
+public interface ScheduleCacheInvalidationHook {
+
+    /**
+     * 일정 캐시 무효화 시 호출
+     *
+     * @param scheduleId 무효화된 일정 ID
+     */
+    void onInvalidate(Long scheduleId);
+}
@@ -0,0 +1,32 @@
+package org.example.scheduler.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.event.ScheduleChangeType;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 일정 변경 이벤트를 받아 캐시를 무효화
+ * - 트랜잭션 커밋 이후에만 처리하여 롤백된 변경으로 캐시가 비워지거나
+ *   커밋 전 값이 다시 캐시되는 일이 없도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCacheInvalidator {
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleJsonCache scheduleJsonCache;
+    private final ObjectProvider<ScheduleCacheInvalidationHook> invalidationHooks;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() == ScheduleChangeType.CREATED) { // 새 일정은 캐시에 없음
+            return;
+        }
+        scheduleDetailCache.evict(event.getScheduleId());
+        scheduleJsonCache.evict(event.getScheduleId());
+        invalidationHooks.orderedStream().forEach(hook -> hook.onInvalidate(event.getScheduleId()));
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.scheduler.cache;
+
+import org.example.scheduler.datasource.PrimaryReads;
+import org.example.scheduler.dto.schedule.ScheduleWithCommentsResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 일정 상세(일정 + 댓글) 응답 캐시
+ * - 일정 ID를 키로 ScheduleWithCommentsResponseDto 보관
+ * - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - TTL이 지난 항목은 조회 시 제거
+ * - 조회 중에 무효화가 일어나면 조회 결과를 저장하지 않아 오래된 값이 다시 들어가지 않도록 함
+ * - replica 라우팅을 켜도 캐시를 채우는 조회는 primary에서 수행
+ */
+@Component
+public class ScheduleDetailCache {
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); // 접근 순서 유지
+
+    private final AtomicLong generation = new AtomicLong();  // 무효화될 때마다 증가
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ScheduleDetailCache(@Value("${scheduler.cache.schedule-detail.max-size:10000}") int maxSize,
+                               @Value("${scheduler.cache.schedule-detail.ttl:10m}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 캐시된 일정 상세 조회, 없으면 loader로 조회 후 저장
+     *
+     * @param scheduleId 일정 ID
+     * @param loader 캐시에 없을 때 호출할 조회 로직
+     * @return 일정 상세 응답 DTO
+     */
+    public ScheduleWithCommentsResponseDto get(Long scheduleId, Supplier<ScheduleWithCommentsResponseDto> loader) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry entry = entries.get(scheduleId);
+            if (entry != null) {
+                if (now - entry.loadedAt < ttlNanos) {
+                    hitCount.incrementAndGet();
+                    return entry.value;
+                }
+                entries.remove(scheduleId);
+                evictionCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        missCount.incrementAndGet();
+        long loadGeneration = generation.get();
+        // 무효화 직후 복제가 늦은 replica에서 읽은 값이 TTL 동안 남지 않도록 primary에서 조회
+        ScheduleWithCommentsResponseDto value = PrimaryReads.call(loader);
+
+        lock.lock();
+        try {
+            if (generation.get() == loadGeneration) { // 조회 중 무효화가 없었던 경우에만 저장
+                entries.put(scheduleId, new Entry(value, now));
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    /**
+     * 특정 일정 상세 무효화
+     *
+     * @param scheduleId 일정 ID
+     */
+    public void evict(Long scheduleId) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            if (entries.remove(scheduleId) != null) {
+                invalidationCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 통계 스냅샷
+     */
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), invalidationCount.get(), entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최대 개수를 초과한 만큼 가장 오래 사용하지 않은 항목 제거
+     */
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static class Entry {
+        private final ScheduleWithCommentsResponseDto value;
+        private final long loadedAt;
+
+        private Entry(ScheduleWithCommentsResponseDto value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.example.scheduler.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 일정 JSON 직렬화 결과 캐시
+ * - 일정 ID를 키로 ScheduleResponseDto를 직렬화한 UTF-8 바이트 보관
+ * - 수정일과 댓글 수가 조회한 값과 같을 때만 사용하여, 무효화가 늦더라도 오래된 JSON을 응답하지 않음
+ *   (댓글 수는 수정일 변경 없이 바뀌므로 함께 비교)
+ * - 조회는 ConcurrentHashMap에서 잠금 없이 처리하고, 저장/무효화/제거만 잠금으로 직렬화
+ *   (목록 응답마다 항목 수만큼 조회하므로 조회가 하나의 잠금을 지나지 않도록 접근 순서를 유지하지 않음)
+ * - 보관 중인 바이트 합계가 최대 크기를 넘으면 저장 순서대로 제거하되, 마지막 제거 검사 이후 조회된 항목은
+ *   한 번 건너뛰어 맨 뒤로 보냄 (second-chance, LRU 근사)
+ * - 목록 응답은 캐시된 조각을 이어 붙여 응답 본문을 구성
+ */
+@Component
+public class ScheduleJsonCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 96; // 항목당 키/객체 헤더 등 대략적인 부가 메모리
+
+    private static final byte[] PAGE_PREFIX = "{\"schedules\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR_FIELD = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HAS_NEXT_FIELD = ",\"hasNext\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TRUE = "true}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FALSE = "false}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter scheduleWriter;
+    private final long maxBytes;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();    // 조회용 (잠금 없이 읽음)
+    private final ReentrantLock lock = new ReentrantLock();                                // 쓰기 직렬화
+    private final LinkedHashMap<Long, Entry> evictionOrder = new LinkedHashMap<>();        // 제거 순서 (저장 순서, lock 보호)
+    private volatile long totalBytes;                       // 보관 중인 항목 크기 합계 (lock 안에서만 변경)
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public ScheduleJsonCache(ObjectMapper objectMapper,
+                             @Value("${scheduler.cache.schedule-json.max-bytes:64MB}") DataSize maxBytes) {
+        this.objectMapper = objectMapper;
+        this.scheduleWriter = objectMapper.writerFor(ScheduleResponseDto.class);
+        this.maxBytes = maxBytes.toBytes();
+    }
+
+    /**
+     * 일정 JSON 조회, 없거나 수정일/댓글 수가 다르면 직렬화 후 저장
+     *
+     * @param schedule 일정 응답 DTO
+     * @return 직렬화된 일정 JSON (UTF-8), 호출자가 수정하면 안 됨
+     */
+    public byte[] get(ScheduleResponseDto schedule) throws IOException {
+        Entry entry = entries.get(schedule.getId());
+        if (entry != null && entry.matches(schedule)) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hitCount.incrementAndGet();
+            return entry.json;
+        }
+
+        missCount.incrementAndGet();
+        byte[] json = scheduleWriter.writeValueAsBytes(schedule);
+        Entry loaded = new Entry(schedule.getModifiedAt(), schedule.getCommentCount(), json);
+        if (loaded.size() > maxBytes) {
+            return json;
+        }
+
+        lock.lock();
+        try {
+            Entry current = entries.get(schedule.getId());
+            if (current == null || !isNewer(current, loaded)) { // 더 최신 항목을 덮어쓰지 않음
+                entries.put(schedule.getId(), loaded);
+                evictionOrder.put(schedule.getId(), loaded);
+                totalBytes += loaded.size() - (current != null ? current.size() : 0);
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return json;
+    }
+
+    /**
+     * 일정 목록 페이지를 JSON으로 기록
+     * - SchedulePageResponseDto를 Jackson으로 직렬화한 결과와 같은 형식
+     *
+     * @param page 일정 목록 페이지
+     * @param outputStream 기록할 스트림
+     */
+    public void writePage(SchedulePageResponseDto<ScheduleResponseDto> page, OutputStream outputStream) throws IOException {
+        outputStream.write(PAGE_PREFIX);
+        List<ScheduleResponseDto> schedules = page.getSchedules();
+        for (int i = 0; i < schedules.size(); i++) {
+            if (i > 0) {
+                outputStream.write(',');
+            }
+            outputStream.write(get(schedules.get(i)));
+        }
+        outputStream.write(NEXT_CURSOR_FIELD);
+        outputStream.write(objectMapper.writeValueAsBytes(page.getNextCursor()));
+        outputStream.write(HAS_NEXT_FIELD);
+        outputStream.write(page.isHasNext() ? TRUE : FALSE);
+    }
+
+    /**
+     * 특정 일정 JSON 무효화
+     *
+     * @param scheduleId 일정 ID
+     */
+    public void evict(Long scheduleId) {
+        lock.lock();
+        try {
+            Entry removed = entries.remove(scheduleId);
+            if (removed != null) {
+                evictionOrder.remove(scheduleId);
+                totalBytes -= removed.size();
+                invalidationCount.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 통계 스냅샷
+     */
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), invalidationCount.get(), entries.size());
+    }
+
+    /**
+     * 보관 중인 항목 크기 합계 조회
+     *
+     * @return 바이트 수
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 최대 크기를 초과한 만큼 오래 저장된 항목부터 제거 (lock 안에서 호출)
+     * - 마지막 검사 이후 조회된 항목은 표시를 지우고 맨 뒤로 보냄
+     * - 동시에 조회가 계속 표시를 다시 켜더라도 끝나도록, 건너뛰기는 한 번 호출에 항목 수만큼만 허용
+     */
+    private void evictOverflow() {
+        int secondChances = evictionOrder.size();
+        while (totalBytes > maxBytes && !evictionOrder.isEmpty()) {
+            Iterator<Map.Entry<Long, Entry>> iterator = evictionOrder.entrySet().iterator();
+            Map.Entry<Long, Entry> oldest = iterator.next();
+            Entry entry = oldest.getValue();
+            iterator.remove();
+            if (entry.referenced && secondChances-- > 0) {
+                entry.referenced = false;
+                evictionOrder.put(oldest.getKey(), entry);
+                continue;
+            }
+            entries.remove(oldest.getKey(), entry);
+            totalBytes -= entry.size();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 저장된 항목이 새로 직렬화한 항목보다 최신인지 확인
+     * - 오래된 조회 결과가 늦게 저장되면서 최신 JSON을 덮어쓰지 않도록 함
+     */
+    private static boolean isNewer(Entry current, Entry loaded) {
+        int compared = current.modifiedAt.compareTo(loaded.modifiedAt);
+        return compared > 0 || (compared == 0 && current.commentCount > loaded.commentCount);
+    }
+
+    private static class Entry {
+        private final LocalDateTime modifiedAt;
+        private final int commentCount;
+        private final byte[] json;
+        private volatile boolean referenced;    // 마지막 제거 검사 이후 조회 여부
+
+        private Entry(LocalDateTime modifiedAt, int commentCount, byte[] json) {
+            this.modifiedAt = modifiedAt;
+            this.commentCount = commentCount;
+            this.json = json;
+        }
+
+        private boolean matches(ScheduleResponseDto schedule) {
+            return commentCount == schedule.getCommentCount() && Objects.equals(modifiedAt, schedule.getModifiedAt());
+        }
+
+        private long size() {
+            return json.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+}
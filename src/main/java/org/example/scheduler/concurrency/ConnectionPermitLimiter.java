@@ -0,0 +1,65 @@
+package org.example.scheduler.concurrency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 커넥션 동시 사용 수 제한
+ * - 가상 스레드 모드에서는 요청 스레드 수에 상한이 없어, 커넥션 풀 크기보다 훨씬 많은 요청이 동시에 커넥션을 기다릴 수 있음
+ * - 커넥션 풀 크기만큼의 허가를 공정(FIFO) 순서로 나눠주고, 제한 시간 안에 얻지 못하면 풀 대기(connection-timeout)까지 가지 않고 바로 503으로 거절
+ * - 허가는 커넥션을 반납(close)할 때 돌려받음 (ConnectionPermitDataSource)
+ */
+public class ConnectionPermitLimiter {
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long timeoutNanos;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ConnectionPermitLimiter(int maxPermits, Duration timeout) {
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * 커넥션 허가 획득
+     *
+     * @throws ResponseStatusException 제한 시간 안에 허가를 얻지 못하면 503 반환
+     */
+    public void acquire() {
+        try {
+            if (permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCount.incrementAndGet();
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "DB 연결 실패: 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    /**
+     * 커넥션 허가 반납
+     */
+    public void release() {
+        permits.release();
+    }
+
+    public int getInUse() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.scheduler.concurrency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 구성
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상일 때만 사용
+ *   (요청 처리 Tomcat 스레드, @Async/@Scheduled 실행기가 가상 스레드로 바뀌는 것은 Spring Boot가 처리)
+ * - JPA가 사용하는 DataSource를 커넥션 허가 제한으로 감싸고, 가상 스레드 고정을 감시
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public ConnectionPermitLimiter connectionPermitLimiter(VirtualThreadProperties properties) {
+        return new ConnectionPermitLimiter(properties.getConnectionPermits(), properties.getPermitTimeout());
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties) {
+        return new VirtualThreadPinningMonitor(properties.getPinnedThreshold());
+    }
+
+    /**
+     * 기본 DataSource(라우팅 사용 시 라우팅 DataSource 포함)를 ConnectionPermitDataSource로 감쌈
+     * - memory 프로필처럼 DataSource가 없으면 아무것도 하지 않음
+     */
+    @Bean
+    public static BeanPostProcessor connectionPermitDataSourcePostProcessor(ObjectProvider<ConnectionPermitLimiter> limiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return new ConnectionPermitDataSource(dataSource, limiter.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.scheduler.concurrency;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * - 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되면 캐리어 스레드를 놓지 못해 동시 처리 수가 캐리어 수로 줄어듦
+ *   (JDBC 드라이버/커넥션 풀의 커넥션 획득 경로에서 주로 발생)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 구독하여 기준 시간 이상 고정된 경우 횟수를 세고 스택 상단을 경고 로그로 출력
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        if (event.getStackTrace() == null) {
+            log.warn("가상 스레드 고정 {}ms", event.getDuration().toMillis());
+            return;
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        String stack = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        log.warn("가상 스레드 고정 {}ms\n\tat {}", event.getDuration().toMillis(), stack);
+    }
+}
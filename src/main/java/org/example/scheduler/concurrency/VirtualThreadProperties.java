@@ -0,0 +1,20 @@
+package org.example.scheduler.concurrency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 설정 (scheduler.virtual-threads.*)
+ * - spring.threads.virtual.enabled=true 일 때만 사용
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.virtual-threads")
+public class VirtualThreadProperties {
+    private int connectionPermits = 10;                         // 동시에 커넥션을 가질 수 있는 요청 수 (커넥션 풀 크기와 맞춤)
+    private Duration permitTimeout = Duration.ofSeconds(1);     // 커넥션 허가 최대 대기 시간 (초과 시 503)
+    private Duration pinnedThreshold = Duration.ofMillis(20);   // 이 시간 이상 캐리어 스레드에 고정된 가상 스레드를 기록
+}
@@ -1,20 +1,46 @@
 package org.example.scheduler.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.cache.ScheduleDetailCache;
+import org.example.scheduler.cache.ScheduleJsonCache;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.batch.BatchResponseDto;
+import org.example.scheduler.dto.comment.CommentIngestResponseDto;
 import org.example.scheduler.dto.comment.CommentRequestDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.dto.schedule.*;
+import org.example.scheduler.feed.ScheduleChangeFeed;
 import org.example.scheduler.service.CommentService;
+import org.example.scheduler.service.ScheduleExportService;
 import org.example.scheduler.service.ScheduleService;
+import org.example.scheduler.web.ETags;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
 public class ScheduleController {
     private final ScheduleService scheduleService;
     private final CommentService commentService;
+    private final ScheduleExportService scheduleExportService;
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleJsonCache scheduleJsonCache;
+    private final ScheduleChangeFeed scheduleChangeFeed;
 
     /**
      * 새로운 일정 등록
@@ -28,41 +54,221 @@ public class ScheduleController {
     }
 
     /**
-     * 전체 일정 목록 또는 특정 작성자의 일정 목록 조회
+     * 여러 일정 일괄 등록
+     * - 항목별로 검증하여 유효한 일정만 등록하고, 실패한 항목은 사유와 함께 응답
+     *
+     * @param scheduleRequestDtos 일정 생성 요청 정보 목록
+     * @return 항목별 등록 결과
+     */
+    @PostMapping("/schedules/batch")
+    public BatchResponseDto<ScheduleResponseDto> createSchedules(@RequestBody List<ScheduleRequestDto> scheduleRequestDtos) {
+        return scheduleService.saveSchedules(scheduleRequestDtos);
+    }
+
+    /**
+     * 전체 일정 목록 또는 조건(작성자명, 작성일/수정일 기간)에 맞는 일정 목록 조회 (커서 기반 페이지네이션)
+     * - 페이지 구성으로 ETag를 계산하여 If-None-Match가 일치하면 본문 없이 304 응답
+     * - 일정별로 캐시된 JSON 조각을 이어 붙여 응답 본문 구성 (변경된 일정만 직렬화)
      *
      * @param name (선택) 작성자명으로 필터링할 경우 사용
-     * @return 일정 목록 (최신 수정일 기준 정렬)
+     * @param dateField (선택) 기간 조회/정렬 기준 createdAt 또는 modifiedAt, 기본 modifiedAt
+     * @param from (선택) 기간 시작 (포함, ISO 일시)
+     * @param to (선택) 기간 끝 (미포함, ISO 일시)
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size (선택) 페이지 크기, 기본 20
+     * @return 일정 페이지 (기준 일시 최신순 정렬)
      */
     @GetMapping("/schedules")
-    public List<ScheduleResponseDto> getSchedules(@RequestParam(required = false) String name) {
-        if (name == null) {
-            return scheduleService.getAllSchedules();
+    public ResponseEntity<byte[]> getSchedules(@RequestParam(required = false) String name,
+                                               @RequestParam(required = false) String dateField,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int size,
+                                               WebRequest webRequest) throws IOException {
+        ScheduleSearchCondition condition = new ScheduleSearchCondition(name, ScheduleDateField.from(dateField), from, to);
+        SchedulePageResponseDto<ScheduleResponseDto> page = scheduleService.searchSchedules(condition, cursor, size);
+        if (webRequest.checkNotModified(ETags.of(page))) {
+            return null;
         }
-        return scheduleService.getSchedulesByName(name);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(page.getSchedules().size() * 256 + 64);
+        scheduleJsonCache.writePage(page, body);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.toByteArray());
+    }
+
+    /**
+     * 댓글을 포함한 일정 목록 조회 (include=comments)
+     * - 목록 + 상세를 따로 호출하지 않도록 일정별 댓글을 함께 응답
+     *
+     * @param name (선택) 작성자명으로 필터링할 경우 사용
+     * @param dateField (선택) 기간 조회/정렬 기준 createdAt 또는 modifiedAt, 기본 modifiedAt
+     * @param from (선택) 기간 시작 (포함, ISO 일시)
+     * @param to (선택) 기간 끝 (미포함, ISO 일시)
+     * @param cursor (선택) 이전 응답의 nextCursor, 없으면 첫 페이지
+     * @param size (선택) 페이지 크기, 기본 20
+     * @param commentLimit (선택) 일정당 포함할 최대 댓글 수, 기본 3
+     * @return 일정 + 댓글 페이지 (기준 일시 최신순 정렬)
+     */
+    @GetMapping(value = "/schedules", params = {"include=comments", "!ids"})
+    public SchedulePageResponseDto<ScheduleWithCommentsResponseDto> getSchedulesWithComments(@RequestParam(required = false) String name,
+                                                                                             @RequestParam(required = false) String dateField,
+                                                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                                             @RequestParam(required = false) String cursor,
+                                                                                             @RequestParam(defaultValue = "20") int size,
+                                                                                             @RequestParam(defaultValue = "3") int commentLimit) {
+        ScheduleSearchCondition condition = new ScheduleSearchCondition(name, ScheduleDateField.from(dateField), from, to);
+        return scheduleService.getSchedulesWithComments(condition, cursor, size, commentLimit);
+    }
+
+    /**
+     * 기간별 일정 수 집계 (캘린더 뷰용)
+     *
+     * @param unit (선택) 집계 단위 day, week, month, 기본 day
+     * @param name (선택) 작성자명으로 필터링할 경우 사용
+     * @param dateField (선택) 집계 기준 createdAt 또는 modifiedAt, 기본 modifiedAt
+     * @param from 기간 시작 (포함, ISO 일시)
+     * @param to 기간 끝 (미포함, ISO 일시)
+     * @return 구간 시작일 오름차순의 구간별 일정 수
+     */
+    @GetMapping("/schedules/buckets")
+    public List<ScheduleBucketResponseDto> getScheduleBuckets(@RequestParam(defaultValue = "day") String unit,
+                                                              @RequestParam(required = false) String name,
+                                                              @RequestParam(required = false) String dateField,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        ScheduleSearchCondition condition = new ScheduleSearchCondition(name, ScheduleDateField.from(dateField), from, to);
+        return scheduleService.getScheduleBuckets(condition, ScheduleBucketUnit.from(unit));
+    }
+
+    /**
+     * 작성자명 접두사 검색 (대소문자 구분 없음, 작성자 입력 자동완성용)
+     *
+     * @param prefix 작성자명 접두사
+     * @param limit (선택) 최대 결과 수, 기본 10
+     * @return 작성자명과 작성한 일정 수 목록
+     */
+    @GetMapping("/authors")
+    public List<AuthorResponseDto> searchAuthors(@RequestParam String prefix,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        return scheduleService.searchAuthors(prefix, limit);
+    }
+
+    /**
+     * 여러 ID의 일정과 댓글 목록을 한 번에 조회
+     *
+     * @param ids 일정 ID 목록 (쉼표로 구분, 최대 100개)
+     * @param commentLimit (선택) 일정당 포함할 최대 댓글 수, 기본 10
+     * @return 일정 + 댓글 목록 (요청한 ID 순서)
+     */
+    @GetMapping(value = "/schedules", params = "ids")
+    public List<ScheduleWithCommentsResponseDto> getSchedulesByIds(@RequestParam List<Long> ids,
+                                                                   @RequestParam(defaultValue = "10") int commentLimit) {
+        return scheduleService.getSchedulesWithCommentsByIds(ids, commentLimit);
+    }
+
+    /**
+     * 전체 일정 내보내기 (NDJSON 스트리밍)
+     * - 전체 목록을 메모리에 모으지 않고 한 줄씩 응답 스트림에 바로 기록
+     * - Accept-Encoding에 gzip이 포함되면 gzip 압축하여 전송
+     *
+     * @param acceptEncoding 클라이언트가 지원하는 압축 방식
+     * @return 일정 NDJSON 스트림
+     */
+    @GetMapping(value = "/schedules/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSchedules(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!gzip) {
+            return response.body(scheduleExportService::exportSchedules);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(outputStream -> {
+                    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, true); // flush 시 압축 블록도 바로 전송
+                    scheduleExportService.exportSchedules(gzipOutputStream);
+                    gzipOutputStream.finish();
+                });
+    }
+
+    /**
+     * 일정 변경 피드 구독 (Server-Sent Events)
+     * - 일정 생성/수정/삭제, 댓글 등록이 커밋될 때마다 schedule-change 이벤트 전송
+     * - 재연결 시 Last-Event-ID 이후의 변경을 이어서 전송, 이어받을 수 없으면 reset 이벤트 전송
+     *
+     * @param lastEventId (선택) 마지막으로 받은 이벤트 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/schedules/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeScheduleChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return scheduleChangeFeed.subscribe(lastEventId);
     }
 
     /**
      * 특정 ID의 일정과 그에 달린 댓글 목록 조회
+     * - 조건부 요청이면 버전 정보만 조회하여 변경이 없을 때 댓글 조회/직렬화 없이 304 응답
+     * - 캐시에 있으면 트랜잭션/DB 조회 없이 바로 응답
      *
      * @param id 일정 ID
      * @return 일정 + 댓글 정보
      */
     @GetMapping("/schedules/{id}")
-    public ScheduleWithCommentsResponseDto getScheduleWithComments(@PathVariable Long id) {
-        return scheduleService.getScheduleWithCommentsById(id);
+    public ScheduleWithCommentsResponseDto getScheduleWithComments(@PathVariable Long id, WebRequest webRequest) {
+        ScheduleVersionDto version = null;
+        if (isConditionalRequest(webRequest)) {
+            version = scheduleService.getScheduleVersion(id);
+            if (webRequest.checkNotModified(ETags.of(version), version.getLastModifiedMillis())) {
+                return null;
+            }
+        }
+
+        ScheduleWithCommentsResponseDto scheduleWithComments = scheduleDetailCache.get(id, () -> scheduleService.getScheduleWithCommentsById(id));
+        if (version == null) { // 다음 조건부 요청을 위해 ETag / Last-Modified 헤더 설정
+            version = ScheduleVersionDto.from(scheduleWithComments);
+            webRequest.checkNotModified(ETags.of(version), version.getLastModifiedMillis());
+        }
+        return scheduleWithComments;
     }
 
     /**
      * 특정 ID의 일정 수정
+     * - If-Match에 조회 응답의 ETag를 보내면 현재 일정의 ETag와 강한 비교로 일치할 때만 수정하고, 다르면 412 응답
+     * - 비교 후 수정 전에 다른 요청이 먼저 수정한 경우도 조건부 UPDATE로 감지하여 412 응답
      *
      * @param id 일정 ID
+     * @param ifMatch (선택) 일정 조회/수정 응답의 ETag (약한 ETag는 412)
      * @param scheduleUpdateRequestDto 일정 수정 요청 정보
-     * @return 수정된 일정 정보
+     * @return 수정된 일정 정보 (ETag: 수정 후 일정 상세 ETag)
      */
     @PatchMapping("/schedules/{id}")
-    public ScheduleResponseDto updateSchedule(@PathVariable Long id, @RequestBody ScheduleUpdateRequestDto scheduleUpdateRequestDto) {
-        return scheduleService.updateSchedule(id, scheduleUpdateRequestDto);
+    public ResponseEntity<ScheduleResponseDto> updateSchedule(@PathVariable Long id,
+                                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                              @RequestBody ScheduleUpdateRequestDto scheduleUpdateRequestDto) {
+        List<String> expectedTags = ETags.parseIfMatch(ifMatch);
+        Long expectedVersion = null;
+        if (expectedTags != null) {
+            ScheduleVersionDto current = scheduleService.getScheduleVersion(id);
+            if (!ETags.matches(expectedTags, current)) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "일정 수정 실패: If-Match의 ETag가 현재 일정과 다릅니다. 최신 일정을 조회한 뒤 다시 시도해주세요.");
+            }
+            expectedVersion = expectedTags.contains("*") ? null : current.getVersion();
+        }
 
+        ScheduleResponseDto updated;
+        try {
+            updated = scheduleService.updateSchedule(id, scheduleUpdateRequestDto, expectedVersion);
+        } catch (ResponseStatusException e) {
+            if (expectedVersion != null && e.getStatusCode() == HttpStatus.CONFLICT) { // 비교 이후 다른 요청이 먼저 수정함
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, e.getReason());
+            }
+            throw e;
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(scheduleService.getScheduleVersion(id)))
+                .body(updated);
     }
 
     /**
@@ -78,14 +284,52 @@ public class ScheduleController {
 
     /**
      * 특정 ID의 일정에 댓글 등록
+     * - write-behind 모드에서는 접수만 하고 202 Accepted와 추적 ID 응답 (Location: 처리 상태 조회 URL)
      *
      * @param scheduleId 일정 ID
      * @param commentRequestDto 댓글 생성 요청 정보
-     * @return 생성된 댓글 정보
+     * @return 생성된 댓글 정보 (write-behind 모드: 접수 상태)
      */
     @PostMapping("/schedules/{scheduleId}/comments")
-    public CommentResponseDto createComment(@PathVariable Long scheduleId, @RequestBody CommentRequestDto commentRequestDto){
-        return commentService.saveComment(commentRequestDto, scheduleId);
+    public ResponseEntity<?> createComment(@PathVariable Long scheduleId, @RequestBody CommentRequestDto commentRequestDto){
+        if (commentService.isWriteBehind()) {
+            CommentIngestResponseDto accepted = commentService.acceptComment(commentRequestDto, scheduleId);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/comments/ingest/" + accepted.getTrackingId()))
+                    .body(accepted);
+        }
+        return ResponseEntity.ok(commentService.saveComment(commentRequestDto, scheduleId));
+    }
+
+    /**
+     * 지연 저장(write-behind) 댓글의 처리 상태 조회
+     *
+     * @param trackingId 접수 시 받은 추적 ID
+     * @return 처리 상태 (PENDING, SAVED, FAILED)
+     */
+    @GetMapping("/comments/ingest/{trackingId}")
+    public CommentIngestResponseDto getCommentIngestStatus(@PathVariable String trackingId) {
+        return commentService.getIngestStatus(trackingId);
+    }
+
+    /**
+     * 특정 ID의 일정에 여러 댓글 일괄 등록
+     *
+     * @param scheduleId 일정 ID
+     * @param commentRequestDtos 댓글 생성 요청 정보 목록
+     * @return 항목별 등록 결과
+     */
+    @PostMapping("/schedules/{scheduleId}/comments/batch")
+    public BatchResponseDto<CommentResponseDto> createComments(@PathVariable Long scheduleId, @RequestBody List<CommentRequestDto> commentRequestDtos) {
+        return commentService.saveComments(commentRequestDtos, scheduleId);
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 헤더가 있는 조건부 요청인지 확인
+     */
+    private boolean isConditionalRequest(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
     }
 
 }
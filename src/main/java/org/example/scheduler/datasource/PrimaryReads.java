@@ -0,0 +1,44 @@
+package org.example.scheduler.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary에서 조회하도록 강제
+ * - 캐시를 채우는 조회처럼 복제 지연으로 오래된 값을 읽으면 안 되는 경우에 사용
+ * - 라우팅을 사용하지 않으면 아무 영향 없음
+ */
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * primary 강제 상태에서 조회 실행
+     *
+     * @param query 조회 로직
+     * @return 조회 결과
+     */
+    public static <T> T call(Supplier<T> query) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 primary 강제 상태인지 확인
+     *
+     * @return primary 강제 상태이면 true
+     */
+    public static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
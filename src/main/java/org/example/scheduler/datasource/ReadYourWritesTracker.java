@@ -0,0 +1,70 @@
+package org.example.scheduler.datasource;
+
+import org.example.scheduler.web.ClientIdResolver;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트별 마지막 쓰기 시각 기록
+ * - 쓰기 직후 일정 시간(read-your-writes 창) 동안은 같은 클라이언트의 읽기도 primary로 보내
+ *   복제 지연 때문에 방금 수정한 내용이 보이지 않는 일이 없도록 함
+ */
+public class ReadYourWritesTracker {
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * 현재 요청의 클라이언트가 쓰기를 수행했음을 기록
+     */
+    public void recordWrite() {
+        String clientId = currentClientId();
+        if (clientId != null && windowNanos > 0) {
+            lastWriteAt.put(clientId, System.nanoTime());
+        }
+    }
+
+    /**
+     * 현재 요청의 클라이언트가 read-your-writes 창 안에 있는지 확인
+     *
+     * @return 최근에 쓰기를 수행했으면 true
+     */
+    public boolean isWithinWindow() {
+        String clientId = currentClientId();
+        if (clientId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(clientId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWriteAt.remove(clientId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 창이 지난 기록 정리
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+    }
+
+    private static String currentClientId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            return ClientIdResolver.resolve(servletRequestAttributes.getRequest());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.scheduler.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 DataSource 구성
+ * - scheduler.datasource.routing.enabled=true 일 때만 사용, 아니면 기본 DataSource 자동 구성 사용
+ * - primary 접속 정보는 spring.datasource.* 를 그대로 사용
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, ReplicaRoutingProperties properties) {
+        List<DataSource> replicas = properties.getReplicas().stream()
+                .map(replica -> (DataSource) replica.initializeDataSourceBuilder().type(HikariDataSource.class).build())
+                .collect(Collectors.toList());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, new ReadYourWritesTracker(properties.getReadYourWritesWindow()));
+    }
+
+    /**
+     * JPA가 사용하는 DataSource
+     * - 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource, ReplicaRoutingProperties properties) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource, (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds()));
+    }
+
+    /**
+     * 주기적으로 replica 상태를 확인하여 장애 replica를 라우팅 대상에서 제외
+     */
+    public static class ReplicaHealthChecker {
+        private final ReplicaRoutingDataSource replicaRoutingDataSource;
+        private final int timeoutSeconds;
+
+        public ReplicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource, int timeoutSeconds) {
+            this.replicaRoutingDataSource = replicaRoutingDataSource;
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        @Scheduled(fixedDelayString = "${scheduler.datasource.routing.health-check-interval:5s}")
+        public void check() {
+            replicaRoutingDataSource.checkReplicas(timeoutSeconds);
+        }
+    }
+}
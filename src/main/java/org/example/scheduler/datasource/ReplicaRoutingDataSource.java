@@ -0,0 +1,122 @@
+package org.example.scheduler.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 그 밖의 요청은 primary로 보내는 DataSource
+ * - 트랜잭션 시작 후 실제 커넥션을 얻을 때 판단하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 여러 replica는 라운드 로빈으로 분산하고, 상태 확인에 실패한 replica는 건너뜀
+ * - 사용 가능한 replica가 없거나 read-your-writes 창 안이면 primary 사용
+ * - PrimaryReads로 감싼 조회(캐시 채우기 등)는 항상 primary 사용
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaKeys;
+    private final Set<String> unhealthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.put("replica-" + i, replicas.get(i));
+        }
+        this.replicaKeys = new ArrayList<>(this.replicas.keySet());
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (PrimaryReads.isForced() || readYourWritesTracker.isWithinWindow()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    /**
+     * 모든 replica 상태 확인
+     * - 커넥션을 얻어 유효성 검사에 실패하면 라우팅 대상에서 제외, 다시 성공하면 복구
+     *
+     * @param timeoutSeconds 유효성 검사 제한 시간(초)
+     */
+    public void checkReplicas(int timeoutSeconds) {
+        replicas.forEach((key, replica) -> {
+            boolean healthy;
+            try (Connection connection = replica.getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy && unhealthyReplicas.remove(key)) {
+                log.info("replica 복구: {}", key);
+            } else if (!healthy && unhealthyReplicas.add(key)) {
+                log.warn("replica 상태 확인 실패, primary로 대체: {}", key);
+            }
+        });
+        readYourWritesTracker.evictExpired();
+    }
+
+    /**
+     * replica 상태 직접 지정
+     *
+     * @param key replica 키 (replica-0, replica-1, ...)
+     * @param healthy 사용 가능 여부
+     */
+    public void markReplica(String key, boolean healthy) {
+        if (healthy) {
+            unhealthyReplicas.remove(key);
+        } else {
+            unhealthyReplicas.add(key);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get((start + i) % size);
+            if (!unhealthyReplicas.contains(key)) {
+                return key;
+            }
+        }
+        return PRIMARY;
+    }
+}
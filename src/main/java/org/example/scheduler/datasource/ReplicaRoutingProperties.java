@@ -0,0 +1,23 @@
+package org.example.scheduler.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (scheduler.datasource.routing.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.datasource.routing")
+public class ReplicaRoutingProperties {
+    private boolean enabled;                                    // 라우팅 사용 여부
+    private List<DataSourceProperties> replicas = new ArrayList<>(); // replica 접속 정보 (url, username, password, driver-class-name)
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);  // 쓰기 후 primary에서 읽을 시간
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);    // replica 유효성 검사 제한 시간
+}
@@ -0,0 +1,17 @@
+package org.example.scheduler.dto.author;
+
+import lombok.Getter;
+
+/**
+ * 작성자 검색 결과 DTO
+ */
+@Getter
+public class AuthorResponseDto {
+    private final String name;          // 작성자명
+    private final long scheduleCount;   // 작성한 일정 수
+
+    public AuthorResponseDto(String name, long scheduleCount) {
+        this.name = name;
+        this.scheduleCount = scheduleCount;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.scheduler.dto.batch;
+
+import lombok.Getter;
+
+/**
+ * 일괄 등록 요청의 항목별 처리 결과 DTO
+ *
+ * @param <T> 등록 성공 시 응답 데이터 타입
+ */
+@Getter
+public class BatchItemResultDto<T> {
+    private final int index;        // 요청 목록에서의 순번 (0부터 시작)
+    private final boolean success;  // 등록 성공 여부
+    private final T data;           // 등록된 데이터 (실패 시 null)
+    private final String error;     // 실패 사유 (성공 시 null)
+
+    private BatchItemResultDto(int index, boolean success, T data, String error) {
+        this.index = index;
+        this.success = success;
+        this.data = data;
+        this.error = error;
+    }
+
+    public static <T> BatchItemResultDto<T> success(int index, T data) {
+        return new BatchItemResultDto<>(index, true, data, null);
+    }
+
+    public static <T> BatchItemResultDto<T> failure(int index, String error) {
+        return new BatchItemResultDto<>(index, false, null, error);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.scheduler.dto.batch;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 결과를 응답할 때 사용하는 DTO
+ *
+ * @param <T> 등록 성공 시 항목별 응답 데이터 타입
+ */
+@Getter
+public class BatchResponseDto<T> {
+    private final int successCount;                 // 등록 성공 건수
+    private final int failureCount;                 // 등록 실패 건수
+    private final List<BatchItemResultDto<T>> results;  // 요청 순서대로의 항목별 결과
+
+    public BatchResponseDto(List<BatchItemResultDto<T>> results) {
+        this.successCount = (int) results.stream().filter(BatchItemResultDto::isSuccess).count();
+        this.failureCount = results.size() - successCount;
+        this.results = results;
+    }
+}
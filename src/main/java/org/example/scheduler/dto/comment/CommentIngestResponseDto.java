@@ -0,0 +1,35 @@
+package org.example.scheduler.dto.comment;
+
+import lombok.Getter;
+
+/**
+ * 지연 저장(write-behind) 댓글 접수/처리 상태 응답 DTO
+ */
+@Getter
+public class CommentIngestResponseDto {
+    private final String trackingId;            // 접수 추적 ID
+    private final Long scheduleId;              // 일정 ID
+    private final CommentIngestStatus status;   // 처리 상태
+    private final Long commentId;               // 저장된 댓글 ID (SAVED일 때만)
+    private final String error;                 // 실패 사유 (FAILED일 때만)
+
+    private CommentIngestResponseDto(String trackingId, Long scheduleId, CommentIngestStatus status, Long commentId, String error) {
+        this.trackingId = trackingId;
+        this.scheduleId = scheduleId;
+        this.status = status;
+        this.commentId = commentId;
+        this.error = error;
+    }
+
+    public static CommentIngestResponseDto pending(String trackingId, Long scheduleId) {
+        return new CommentIngestResponseDto(trackingId, scheduleId, CommentIngestStatus.PENDING, null, null);
+    }
+
+    public CommentIngestResponseDto saved(Long commentId) {
+        return new CommentIngestResponseDto(trackingId, scheduleId, CommentIngestStatus.SAVED, commentId, null);
+    }
+
+    public CommentIngestResponseDto failed(String error) {
+        return new CommentIngestResponseDto(trackingId, scheduleId, CommentIngestStatus.FAILED, null, error);
+    }
+}
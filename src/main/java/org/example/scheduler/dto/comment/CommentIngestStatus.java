@@ -0,0 +1,10 @@
+package org.example.scheduler.dto.comment;
+
+/**
+ * 지연 저장(write-behind) 댓글의 처리 상태
+ */
+public enum CommentIngestStatus {
+    PENDING,    // 접수됨, 저장 대기 중
+    SAVED,      // 저장 완료
+    FAILED      // 저장 실패 (예약한 댓글 자리는 반납)
+}
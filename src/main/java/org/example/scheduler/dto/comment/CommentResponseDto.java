@@ -26,4 +26,16 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
     }
+
+    /**
+     * 리포지토리 DTO 프로젝션 조회용 생성자
+     */
+    public CommentResponseDto(Long id, String name, String content, Long scheduleId, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.name = name;
+        this.content = content;
+        this.scheduleId = scheduleId;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
@@ -0,0 +1,19 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 기간별 일정 개수 응답 DTO
+ */
+@Getter
+public class ScheduleBucketResponseDto {
+    private final LocalDate start;  // 구간 시작일
+    private final long count;       // 구간에 속한 일정 수
+
+    public ScheduleBucketResponseDto(LocalDate start, long count) {
+        this.start = start;
+        this.count = count;
+    }
+}
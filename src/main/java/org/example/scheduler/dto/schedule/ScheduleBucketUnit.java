@@ -0,0 +1,74 @@
+package org.example.scheduler.dto.schedule;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 일정 개수 집계 단위 (일/주/월)
+ * - DB에서는 일 단위로 집계하고 주/월은 일 단위 결과를 합산
+ */
+public enum ScheduleBucketUnit {
+    DAY {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusDays(1);
+        }
+    },
+    WEEK {   // 월요일 시작
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate start) {
+            return start.plusMonths(1);
+        }
+    };
+
+    /**
+     * 날짜가 속한 구간의 시작일
+     */
+    public abstract LocalDate truncate(LocalDate date);
+
+    /**
+     * 다음 구간의 시작일
+     */
+    public abstract LocalDate next(LocalDate start);
+
+    /**
+     * 요청 파라미터 값으로 집계 단위 조회
+     *
+     * @param unit day, week, month
+     * @return 집계 단위
+     * @throws ResponseStatusException 지원하지 않는 값인 경우 400 반환
+     */
+    public static ScheduleBucketUnit from(String unit) {
+        for (ScheduleBucketUnit bucketUnit : values()) {
+            if (bucketUnit.name().equalsIgnoreCase(unit)) {
+                return bucketUnit;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 집계 실패: unit은 day, week, month만 가능합니다.");
+    }
+}
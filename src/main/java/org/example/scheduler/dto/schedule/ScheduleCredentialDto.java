@@ -0,0 +1,20 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+/**
+ * 일정 수정/삭제 검증용 DTO
+ * - 비밀번호 검증, 변경 전 작성자명/버전 확인에 사용하며 응답에는 사용하지 않음
+ */
+@Getter
+public class ScheduleCredentialDto {
+    private final String name;      // 작성자명
+    private final String password;  // 비밀번호 해시 (해시 도입 전 데이터는 평문)
+    private final long version;     // 수정 버전
+
+    public ScheduleCredentialDto(String name, String password, long version) {
+        this.name = name;
+        this.password = password;
+        this.version = version;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 목록 키셋 페이지네이션 커서
+ * - 마지막으로 조회한 일정의 (정렬 기준 일시, ID)를 담아 다음 페이지의 시작 위치로 사용
+ * - 정렬 기준 일시는 조회 조건의 dateField (수정일 또는 작성일)
+ * - 클라이언트에는 Base64(URL-safe) 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+public class ScheduleCursor {
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime timestamp;  // 마지막 일정의 정렬 기준 일시
+    private final Long id;                  // 마지막 일정의 ID
+
+    public ScheduleCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    /**
+     * 커서를 클라이언트 전달용 문자열로 인코딩
+     *
+     * @return 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열 디코딩
+     *
+     * @param cursor 인코딩된 커서 문자열 (없으면 첫 페이지)
+     * @return 디코딩된 커서, 첫 페이지 요청이면 null
+     * @throws ResponseStatusException 형식이 올바르지 않은 경우 400 반환
+     */
+    public static ScheduleCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new ScheduleCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 조회 실패: 유효하지 않은 커서입니다.");
+        }
+    }
+}
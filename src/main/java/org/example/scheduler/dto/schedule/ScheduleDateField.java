@@ -0,0 +1,52 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 일정 목록 기간 조회/정렬 기준 일시
+ * - 각 기준마다 (deleted_at, 기준 컬럼, id) 인덱스가 있어 기간 조회와 키셋 정렬을 인덱스 범위 스캔으로 처리
+ */
+@Getter
+public enum ScheduleDateField {
+    CREATED_AT("createdAt", ScheduleResponseDto::getCreatedAt),
+    MODIFIED_AT("modifiedAt", ScheduleResponseDto::getModifiedAt);
+
+    private final String property;  // 엔티티 속성명 (요청 파라미터 값)
+    private final Function<ScheduleResponseDto, LocalDateTime> accessor;
+
+    ScheduleDateField(String property, Function<ScheduleResponseDto, LocalDateTime> accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    /**
+     * 일정 응답에서 기준 일시 추출 (커서 생성용)
+     */
+    public LocalDateTime valueOf(ScheduleResponseDto schedule) {
+        return accessor.apply(schedule);
+    }
+
+    /**
+     * 요청 파라미터 값으로 기준 일시 조회
+     *
+     * @param property createdAt 또는 modifiedAt (없으면 modifiedAt)
+     * @return 기준 일시
+     * @throws ResponseStatusException 지원하지 않는 값인 경우 400 반환
+     */
+    public static ScheduleDateField from(String property) {
+        if (property == null || property.isEmpty()) {
+            return MODIFIED_AT;
+        }
+        for (ScheduleDateField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 조회 실패: dateField는 createdAt 또는 modifiedAt만 가능합니다.");
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 목록을 커서 기반 페이지 단위로 응답할 때 사용하는 DTO
+ *
+ * @param <T> 일정 항목 타입 (일정 정보 또는 일정 + 댓글 정보)
+ */
+@Getter
+public class SchedulePageResponseDto<T> {
+    private final List<T> schedules;                    // 현재 페이지 일정 목록
+    private final String nextCursor;                    // 다음 페이지 커서 (마지막 페이지면 null)
+    private final boolean hasNext;                      // 다음 페이지 존재 여부
+
+    public SchedulePageResponseDto(List<T> schedules, String nextCursor) {
+        this.schedules = schedules;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
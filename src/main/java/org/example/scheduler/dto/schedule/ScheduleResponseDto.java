@@ -14,6 +14,8 @@ public class ScheduleResponseDto {
     private final String name;              // 작성자명
     private final String title;             // 제목
     private final String content;           // 내용
+    private final int commentCount;         // 댓글 수
+    private final long version;             // 수정 버전 (수정 요청의 If-Match 값)
     private final LocalDateTime createdAt;  // 작성일
     private final LocalDateTime modifiedAt; // 수정일
 
@@ -23,7 +25,23 @@ public class ScheduleResponseDto {
         this.name = schedule.getName();
         this.title = schedule.getTitle();
         this.content = schedule.getContent();
+        this.commentCount = schedule.getCommentCount();
+        this.version = schedule.getVersion();
         this.createdAt = schedule.getCreatedAt();
         this.modifiedAt = schedule.getModifiedAt();
     }
+
+    /**
+     * 리포지토리 DTO 프로젝션 조회용 생성자
+     */
+    public ScheduleResponseDto(Long id, String name, String title, String content, int commentCount, long version, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.name = name;
+        this.title = title;
+        this.content = content;
+        this.commentCount = commentCount;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
@@ -0,0 +1,34 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 조회 조건
+ * - 작성자명, 기준 일시(작성일/수정일)의 기간 [from, to)
+ */
+@Getter
+public class ScheduleSearchCondition {
+    private final String name;                  // 작성자명 (없으면 전체)
+    private final ScheduleDateField dateField;  // 기간 조회/정렬 기준 일시
+    private final LocalDateTime from;           // 기간 시작 (포함, 없으면 제한 없음)
+    private final LocalDateTime to;             // 기간 끝 (미포함, 없으면 제한 없음)
+
+    public ScheduleSearchCondition(String name, ScheduleDateField dateField, LocalDateTime from, LocalDateTime to) {
+        this.name = name;
+        this.dateField = dateField;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * 작성자명 조건만 있는 조회 조건 (수정일 기준 정렬)
+     *
+     * @param name 작성자명 (없으면 전체)
+     * @return 조회 조건
+     */
+    public static ScheduleSearchCondition byName(String name) {
+        return new ScheduleSearchCondition(name, ScheduleDateField.MODIFIED_AT, null, null);
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.scheduler.dto.schedule;
+
+import lombok.Getter;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * 일정 상세 응답의 버전 정보
+ * - 일정 수정 버전/수정일, 댓글 수, 마지막 댓글 수정일로 상세 응답이 바뀌었는지 판단
+ * - 조건부 요청(If-None-Match / If-Modified-Since / If-Match) 처리 시 댓글/본문을 조회하지 않고 비교하기 위해 사용
+ */
+@Getter
+public class ScheduleVersionDto {
+    private final Long id;                      // 일정 ID
+    private final long version;                 // 일정 수정 버전
+    private final LocalDateTime modifiedAt;     // 일정 수정일
+    private final int commentCount;             // 댓글 수
+    private final LocalDateTime lastCommentAt;  // 마지막 댓글 수정일 (댓글이 없으면 null)
+
+    public ScheduleVersionDto(Long id, long version, LocalDateTime modifiedAt, int commentCount, LocalDateTime lastCommentAt) {
+        this.id = id;
+        this.version = version;
+        this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.lastCommentAt = lastCommentAt;
+    }
+
+    /**
+     * 일정 상세 응답으로부터 버전 정보 생성
+     *
+     * @param scheduleWithComments 일정 상세 응답 DTO
+     * @return 버전 정보
+     */
+    public static ScheduleVersionDto from(ScheduleWithCommentsResponseDto scheduleWithComments) {
+        ScheduleResponseDto schedule = scheduleWithComments.getSchedule();
+        LocalDateTime lastCommentAt = scheduleWithComments.getComments().stream()
+                .map(CommentResponseDto::getModifiedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        return new ScheduleVersionDto(schedule.getId(), schedule.getVersion(), schedule.getModifiedAt(), schedule.getCommentCount(), lastCommentAt);
+    }
+
+    /**
+     * 일정 또는 댓글이 마지막으로 변경된 시각 (epoch millis)
+     */
+    public long getLastModifiedMillis() {
+        LocalDateTime lastModified = lastCommentAt != null && lastCommentAt.isAfter(modifiedAt) ? lastCommentAt : modifiedAt;
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
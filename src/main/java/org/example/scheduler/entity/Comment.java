@@ -9,20 +9,25 @@ import lombok.NoArgsConstructor;
  * 댓글 Entity
  * - 일정에 대한 댓글 정보를 저장
  * - BaseEntity 상속을 통해 작성/수정일 자동 관리
+ * - 일정별 댓글 조회를 위한 일정 ID 인덱스
  */
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_schedule_id", columnList = "schedule_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50) // ID를 미리 할당받아 INSERT 배치 처리
     private Long id;    // 댓글 ID (자동 생성)
 
     @Column(nullable = false, length = 20)
     private String name;    // 작성자명
 
-    @Column(nullable = false, length = 50)
-    private String password;    // 비밀번호
+    @Column(nullable = false, length = 255)
+    private String password;    // 비밀번호 해시 ({알고리즘}해시, 해시 도입 전 데이터는 평문)
 
     @Column(nullable = false, length = 100)
     private String content;     // 내용
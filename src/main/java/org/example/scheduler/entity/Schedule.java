@@ -4,25 +4,39 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /*
  * 일정 Entity
  * - 일정에 대한 정보를 저장
  * - BaseEntity 상속을 통해 작성/수정일 자동 관리
+ * - 목록 조회 키셋 페이지네이션/기간 조회를 위한 (삭제일, 수정일, ID), (삭제일, 작성일, ID) 복합 인덱스
+ * - 작성자명 조회를 위한 (삭제일, 작성자명, 수정일, ID) 복합 인덱스 (작성자명 일치 + 수정일 순 페이지를 인덱스 범위로 조회)
+ * - 소프트 삭제된 일정(deletedAt 설정)은 모든 조회에서 제외
+ * - 작성자명/제목 수정마다 증가하는 버전으로 동시 수정 충돌 감지 (If-Match)
  */
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_schedule_deleted_at_modified_at_id", columnList = "deleted_at, modified_at, id"),
+        @Index(name = "idx_schedule_deleted_at_created_at_id", columnList = "deleted_at, created_at, id"),
+        @Index(name = "idx_schedule_deleted_at_name_modified_at_id", columnList = "deleted_at, name, modified_at, id")
+})
+@SQLRestriction("deleted_at is null")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Schedule extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50) // ID를 미리 할당받아 INSERT 배치 처리
     private Long id;    // 일정 ID (자동 생성)
 
     @Column(nullable = false, length = 20)
     private String name;    // 작성자명
 
-    @Column(nullable = false, length = 50)
-    private String password;    // 비밀번호
+    @Column(nullable = false, length = 255)
+    private String password;    // 비밀번호 해시 ({알고리즘}해시, 해시 도입 전 데이터는 평문)
 
     @Column(nullable = false, length = 30)
     private String title;   //제목
@@ -30,28 +44,19 @@ public class Schedule extends BaseEntity {
     @Column(nullable = false, length = 200)
     private String content;     // 내용
 
+    @Column(nullable = false)
+    private int commentCount;   // 댓글 수 (댓글 등록 시 조건부 UPDATE로 증가)
+
+    private LocalDateTime deletedAt;    // 소프트 삭제 시각 (삭제되지 않았으면 null)
+
+    @Version
+    @Column(nullable = false)
+    private long version;       // 수정 버전 (작성자명/제목 수정 시 조건부 UPDATE로 증가, 댓글 수 변경과는 무관)
+
     public Schedule(String name, String password, String title, String content) {
         this.name = name;
         this.password = password;
         this.title = title;
         this.content = content;
     }
-
-    /*
-     * 일정 제목을 수정합니다.
-     *
-     * @param title 수정할 제목
-     */
-    public void updateTitle(String title) {
-        this.title = title;
-    }
-
-    /*
-     * 작성자명을 수정합니다.
-     *
-     * @param name 수정할 작성자명
-     */
-    public void updateName(String name){
-        this.name = name;
-    }
 }
@@ -0,0 +1,11 @@
+package org.example.scheduler.event;
+
+/**
+ * 일정 변경 유형
+ */
+public enum ScheduleChangeType {
+    CREATED,        // 일정 생성
+    UPDATED,        // 일정 수정
+    DELETED,        // 일정 삭제
+    COMMENT_ADDED   // 댓글 등록
+}
@@ -0,0 +1,26 @@
+package org.example.scheduler.event;
+
+import lombok.Getter;
+
+/**
+ * 일정 또는 일정에 달린 댓글이 변경되었을 때 발행하는 이벤트
+ * - 서비스 트랜잭션 안에서 발행하고, 리스너는 커밋 이후(AFTER_COMMIT)에 처리
+ */
+@Getter
+public class ScheduleChangedEvent {
+    private final Long scheduleId;          // 변경된 일정 ID
+    private final ScheduleChangeType type;  // 변경 유형
+    private final String name;              // 변경 후 작성자명 (생성/수정 시)
+    private final String previousName;      // 변경 전 작성자명 (수정/삭제 시)
+
+    public ScheduleChangedEvent(Long scheduleId, ScheduleChangeType type) {
+        this(scheduleId, type, null, null);
+    }
+
+    public ScheduleChangedEvent(Long scheduleId, ScheduleChangeType type, String name, String previousName) {
+        this.scheduleId = scheduleId;
+        this.type = type;
+        this.name = name;
+        this.previousName = previousName;
+    }
+}
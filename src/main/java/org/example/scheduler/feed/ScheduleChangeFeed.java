@@ -0,0 +1,285 @@
+package org.example.scheduler.feed;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 변경 피드 (Server-Sent Events)
+ * - 커밋된 일정 변경을 링 버퍼에 기록하고 구독자에게 전송
+ * - 구독 연결은 비동기 요청(SseEmitter)이라 대기 중인 구독자가 스레드를 점유하지 않음
+ * - 구독자마다 전송 작업을 하나씩만 실행하여 마지막 전송 순번 이후의 변경을 순서대로 보내므로
+ *   구독 시작 시점의 재전송과 새 변경 전송이 섞이거나 순서가 바뀌지 않고, 느린 구독자가 다른 구독자 전송을 막지 않음
+ * - 구독자별 대기열은 링 버퍼의 마지막 전송 순번으로 표현하고, 밀린 변경이 max-lag를 넘거나
+ *   한 번의 전송이 send-timeout 안에 끝나지 않는 구독자는 연결을 끊음 (클라이언트는 Last-Event-ID로 재연결)
+ * - 이벤트 ID는 "{기동 epoch}-{순번}" 형식이라 재시작 전에 받은 ID로 재연결하면 reset 전송
+ */
+@Slf4j
+@Component
+public class ScheduleChangeFeed {
+    private static final String CHANGE_EVENT = "schedule-change";
+    private static final String RESET_EVENT = "reset";  // 이어받을 수 없어 전체 목록을 다시 조회해야 함
+    private static final long UNKNOWN_SEQUENCE = -1;     // 다른 기동에서 받은 이벤트 ID (이어받을 수 없음)
+
+    private final ScheduleChangeRingBuffer ringBuffer;
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final long maxLag;              // 구독자별 최대 밀린 변경 수
+    private final long sendTimeoutNanos;    // 한 번의 전송 최대 시간
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newCachedThreadPool(
+            new CustomizableThreadFactory("schedule-change-feed-"));   // 전송 중인 구독자 수만큼만 스레드 사용
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ScheduleChangeFeed(ScheduleChangeRingBuffer ringBuffer,
+                              @Value("${scheduler.feed.emitter-timeout:30m}") Duration emitterTimeout,
+                              @Value("${scheduler.feed.max-subscribers:10000}") int maxSubscribers,
+                              @Value("${scheduler.feed.max-lag:1000}") int maxLag,
+                              @Value("${scheduler.feed.send-timeout:10s}") Duration sendTimeout) {
+        this.ringBuffer = ringBuffer;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.maxLag = maxLag;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+
+    /**
+     * 변경 피드 구독
+     *
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (처음 구독이면 null, 이후 변경만 전송)
+     * @return SSE 연결
+     * @throws ResponseStatusException 이벤트 ID 형식이 올바르지 않으면 400, 구독자 수 초과 시 503 반환
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        long lastSequence = parseLastEventId(lastEventId);
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "일정 변경 구독 실패: 구독자 수가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, lastSequence);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        requestDrain(subscriber); // 놓친 변경이 있으면 바로 재전송
+        return emitter;
+    }
+
+    /**
+     * 커밋된 일정 변경을 기록하고 구독자에게 전송 요청
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        ringBuffer.append(event.getScheduleId(), event.getType());
+        for (Subscriber subscriber : subscribers) {
+            requestDrain(subscriber);
+        }
+    }
+
+    /**
+     * 끊어진 연결을 감지하고 프록시 유휴 타임아웃을 막기 위한 주기적 하트비트
+     * - 전송이 send-timeout 넘게 끝나지 않은 구독자는 하트비트 대신 구독 해제
+     */
+    @Scheduled(fixedDelayString = "${scheduler.feed.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long sendStartedAt = subscriber.sendStartedAt;
+            if (sendStartedAt != 0 && now - sendStartedAt > sendTimeoutNanos) {
+                drop(subscriber, "전송 시간 초과");
+                continue;
+            }
+            subscriber.heartbeatPending = true;
+            requestDrain(subscriber);
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 밀리거나 전송이 멈춰 연결을 끊은 구독자 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * 구독자 전송 작업 등록 (실행 중이거나 대기 중인 작업이 있으면 그 작업이 이어서 처리)
+     */
+    private void requestDrain(Subscriber subscriber) {
+        if (subscriber.pending.getAndIncrement() == 0) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 요청이 남아 있는 동안 구독자에게 밀린 변경과 하트비트 전송 (구독자마다 한 작업만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        int requested = subscriber.pending.get();
+        do {
+            if (!subscribers.contains(subscriber)) {
+                return;
+            }
+            sendChanges(subscriber);
+            if (subscriber.heartbeatPending) {
+                subscriber.heartbeatPending = false;
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+            requested = subscriber.pending.addAndGet(-requested);
+        } while (requested != 0);
+    }
+
+    /**
+     * 마지막 전송 순번 이후의 변경 전송
+     * - 구독(재연결) 직후 이어받을 수 없거나 max-lag보다 많이 밀렸으면 reset 전송 후 최신 순번부터 이어감
+     * - 구독 중에 max-lag보다 밀리면 구독 해제 (전송이 변경 발생을 따라가지 못함)
+     */
+    private void sendChanges(Subscriber subscriber) {
+        long lastSequence = ringBuffer.getLastSequence();
+        if (subscriber.lastSequence == lastSequence) {
+            subscriber.resumed = true;
+            return;
+        }
+        List<ScheduleChangeRecord> records = lastSequence - subscriber.lastSequence > maxLag ? null : ringBuffer.since(subscriber.lastSequence);
+        if (records == null) {
+            if (subscriber.resumed) {
+                drop(subscriber, "밀린 변경 " + (lastSequence - subscriber.lastSequence) + "건");
+                return;
+            }
+            subscriber.resumed = true;
+            subscriber.lastSequence = lastSequence;
+            send(subscriber, SseEmitter.event().id(eventId(lastSequence)).name(RESET_EVENT).data(""));
+            return;
+        }
+        subscriber.resumed = true;
+        for (ScheduleChangeRecord record : records) {
+            if (!send(subscriber, SseEmitter.event()
+                    .id(eventId(record.getSequence()))
+                    .name(CHANGE_EVENT)
+                    .data(record, MediaType.APPLICATION_JSON))) {
+                break;
+            }
+            subscriber.lastSequence = record.getSequence();
+        }
+    }
+
+    /**
+     * 이벤트 전송, 실패한 구독자는 연결 종료 후 제거
+     *
+     * @return 전송 성공 여부
+     */
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("일정 변경 피드 전송 실패로 구독 해제: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    /**
+     * 따라오지 못하는 구독자 연결 종료
+     * - 목록에서 먼저 빼서 더 이상 전송하지 않고, 멈춘 전송과 같은 잠금을 기다릴 수 있는 종료 처리는 별도 전송 스레드에서 실행
+     */
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber)) {
+            droppedCount.incrementAndGet();
+            log.info("일정 변경 피드 구독자 연결 종료: {}", reason);
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    /**
+     * 구독 연결 생성
+     */
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * 변경 순번으로 이벤트 ID 생성 ("{기동 epoch}-{순번}")
+     */
+    private String eventId(long sequence) {
+        return ringBuffer.getEpoch() + "-" + sequence;
+    }
+
+    /**
+     * 마지막 이벤트 ID 해석
+     * - 없으면 현재 마지막 순번부터 구독 (재전송 없음)
+     * - 다른 기동에서 받은 ID면 순번을 비교할 수 없으므로 reset부터 전송
+     */
+    private long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return ringBuffer.getLastSequence();
+        }
+        String value = lastEventId.trim();
+        int separator = value.lastIndexOf('-');
+        try {
+            long sequence = Long.parseLong(value.substring(separator + 1));
+            if (separator <= 0 || sequence < 0) {
+                throw new NumberFormatException(value);
+            }
+            return value.substring(0, separator).equals(ringBuffer.getEpoch()) ? sequence : UNKNOWN_SEQUENCE;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 변경 구독 실패: 유효하지 않은 Last-Event-ID 입니다.");
+        }
+    }
+
+    /**
+     * 구독자와 마지막으로 전송한 변경 순번 (구독자 전송 작업에서만 변경)
+     */
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicInteger pending = new AtomicInteger();  // 처리하지 않은 전송 요청 수 (0이면 전송 작업 없음)
+        private volatile long lastSequence;
+        private volatile boolean resumed;           // 구독 후 첫 전송을 마쳤는지 (이후 밀리면 reset 대신 구독 해제)
+        private volatile boolean heartbeatPending;
+        private volatile long sendStartedAt;        // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+
+        private Subscriber(SseEmitter emitter, long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+    }
+}
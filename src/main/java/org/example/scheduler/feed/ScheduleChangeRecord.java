@@ -0,0 +1,25 @@
+package org.example.scheduler.feed;
+
+import lombok.Getter;
+import org.example.scheduler.event.ScheduleChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드에 기록된 일정 변경
+ * - sequence는 기동 후 1부터 1씩 증가하며, 기동 epoch와 함께 SSE 이벤트 ID로 사용
+ */
+@Getter
+public class ScheduleChangeRecord {
+    private final long sequence;            // 변경 순번
+    private final Long scheduleId;          // 변경된 일정 ID
+    private final ScheduleChangeType type;  // 변경 유형
+    private final LocalDateTime occurredAt; // 커밋 시각
+
+    public ScheduleChangeRecord(long sequence, Long scheduleId, ScheduleChangeType type, LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.scheduleId = scheduleId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.scheduler.feed;
+
+import org.example.scheduler.event.ScheduleChangeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최근 일정 변경을 보관하는 고정 크기 링 버퍼
+ * - 가득 차면 가장 오래된 변경부터 덮어씀
+ * - 재연결한 구독자가 마지막으로 받은 순번 이후의 변경을 다시 받을 수 있도록 함
+ * - 순번은 재시작하면 1부터 다시 시작하므로 기동마다 다른 epoch로 이전 기동의 순번과 구분
+ */
+@Component
+public class ScheduleChangeRingBuffer {
+    private final ScheduleChangeRecord[] records;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);  // 기동 식별자
+    private long lastSequence;  // 마지막으로 기록한 순번 (기록 전이면 0)
+
+    public ScheduleChangeRingBuffer(@Value("${scheduler.feed.buffer-size:10000}") int capacity) {
+        this.records = new ScheduleChangeRecord[capacity];
+    }
+
+    /**
+     * 변경 기록
+     *
+     * @param scheduleId 변경된 일정 ID
+     * @param type 변경 유형
+     * @return 순번이 부여된 변경 기록
+     */
+    public ScheduleChangeRecord append(Long scheduleId, ScheduleChangeType type) {
+        lock.lock();
+        try {
+            ScheduleChangeRecord record = new ScheduleChangeRecord(++lastSequence, scheduleId, type, LocalDateTime.now());
+            records[(int) (record.getSequence() % records.length)] = record;
+            return record;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 특정 순번 이후의 변경 조회
+     *
+     * @param afterSequence 마지막으로 받은 순번
+     * @return 순번 오름차순 변경 목록, 필요한 변경이 이미 덮어쓰여 이어받을 수 없으면 null
+     */
+    public List<ScheduleChangeRecord> since(long afterSequence) {
+        lock.lock();
+        try {
+            long oldestSequence = Math.max(1, lastSequence - records.length + 1);
+            if (afterSequence > lastSequence || afterSequence + 1 < oldestSequence) {
+                return null;
+            }
+            List<ScheduleChangeRecord> result = new ArrayList<>((int) (lastSequence - afterSequence));
+            for (long sequence = afterSequence + 1; sequence <= lastSequence; sequence++) {
+                result.add(records[(int) (sequence % records.length)]);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기동 식별자 (이벤트 ID 접두사)
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 마지막으로 기록한 순번
+     */
+    public long getLastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.scheduler.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멱등성 키 구성
+ * - 다른 IdempotencyStore 빈(공유 저장소 구현)을 등록하면 프로세스 내 저장소 대신 사용
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(IdempotencyStore.class)
+    public InMemoryIdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.getTtl(), properties.getMaxSize());
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.scheduler.idempotency;
+
+import lombok.Getter;
+
+/**
+ * 같은 멱등성 키를 사용할 수 없는 경우
+ * - 다른 요청 본문에 같은 키를 사용했거나(422), 처리 중인 첫 요청을 기다리다 시간이 초과된 경우(409)
+ */
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+    private final int status;   // 응답할 HTTP 상태 코드
+
+    public IdempotencyConflictException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+}
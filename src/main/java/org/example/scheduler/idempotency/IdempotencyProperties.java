@@ -0,0 +1,20 @@
+package org.example.scheduler.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 멱등성 키 설정 (scheduler.idempotency.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.idempotency")
+public class IdempotencyProperties {
+    private Duration ttl = Duration.ofHours(24);                // 첫 응답 보관 시간
+    private int maxSize = 100000;                               // 보관할 최대 응답 수 (초과 시 오래된 것부터 제거)
+    private Duration inFlightTimeout = Duration.ofSeconds(10);  // 처리 중인 같은 키 요청을 기다리는 최대 시간 (초과 시 409)
+    private int maxKeyLength = 255;                             // Idempotency-Key 최대 길이
+}
@@ -0,0 +1,41 @@
+package org.example.scheduler.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 멱등성 키별 첫 응답 저장소
+ * - 같은 키의 재시도에는 저장한 응답을 돌려주고, 아직 처리 중이면 첫 요청이 끝날 때까지 대기
+ * - 기본은 프로세스 내 구현(InMemoryIdempotencyStore), 여러 노드가 키를 공유해야 하면 공유 저장소 구현으로 교체
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키 선점 또는 저장된 응답 조회
+     * - 처음 보는 키면 선점하고 empty 반환 (호출자가 요청을 실행한 뒤 complete 또는 release 호출)
+     * - 처리가 끝난 키면 저장된 응답 반환
+     * - 처리 중인 키면 끝날 때까지 최대 waitTimeout 대기 후 저장된 응답 반환 (첫 요청이 release 하면 다시 선점 시도)
+     *
+     * @param key 멱등성 키 (클라이언트/요청 경로 포함)
+     * @param fingerprint 요청 본문 지문 (같은 키로 다른 요청을 보냈는지 확인)
+     * @param waitTimeout 처리 중인 요청을 기다릴 최대 시간
+     * @return 저장된 응답 (선점한 경우 empty)
+     * @throws IdempotencyConflictException 지문이 다르거나 대기 시간을 넘은 경우
+     */
+    Optional<IdempotentResponse> acquire(String key, String fingerprint, Duration waitTimeout);
+
+    /**
+     * 선점한 키에 응답 저장 (대기 중인 재시도에도 전달)
+     *
+     * @param key 멱등성 키
+     * @param response 첫 응답
+     */
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * 선점 해제 (저장하지 않을 응답인 경우, 다음 재시도가 다시 실행)
+     *
+     * @param key 멱등성 키
+     */
+    void release(String key);
+}
@@ -0,0 +1,23 @@
+package org.example.scheduler.idempotency;
+
+import lombok.Getter;
+
+/**
+ * 멱등성 키로 저장한 응답 (상태 코드, 재전송할 헤더, 본문)
+ */
+@Getter
+public class IdempotentResponse {
+    private final int status;           // HTTP 상태 코드
+    private final String contentType;   // Content-Type
+    private final String location;      // Location 헤더 (없으면 null)
+    private final String eTag;          // ETag 헤더 (없으면 null)
+    private final byte[] body;          // 응답 본문
+
+    public IdempotentResponse(int status, String contentType, String location, String eTag, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.location = location;
+        this.eTag = eTag;
+        this.body = body;
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.scheduler.idempotency;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 멱등성 키 저장소
+ * - 키별 항목은 ConcurrentHashMap에 보관하고, 처리 중인 요청은 CompletableFuture로 대기
+ * - 완료된 항목은 완료 순서대로 큐에 넣어, 유지 시간(ttl)이 지났거나 최대 개수를 넘으면 오래된 것부터 제거
+ *   (유지 시간이 모두 같으므로 완료 순서가 곧 만료 순서)
+ * - 처리 중인 항목은 개수 제한에서 제외 (동시 처리 수만큼만 존재)
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> completed = new ConcurrentLinkedQueue<>(); // 완료 순서
+    private final AtomicInteger completedSize = new AtomicInteger();
+
+    private final AtomicLong replayCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public InMemoryIdempotencyStore(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> acquire(String key, String fingerprint, Duration waitTimeout) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            Entry created = new Entry(key, fingerprint);
+            Entry existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            if (existing.isExpired()) {
+                entries.remove(key, existing);
+                continue;
+            }
+            if (!existing.fingerprint.equals(fingerprint)) {
+                throw new IdempotencyConflictException(HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "멱등성 키 사용 실패: 같은 Idempotency-Key로 다른 요청을 보냈습니다.");
+            }
+            IdempotentResponse response = await(existing, deadline);
+            if (response != null) {
+                replayCount.incrementAndGet();
+                return Optional.of(response);
+            }
+            // 첫 요청이 선점을 해제했으면 다시 선점 시도
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        entry.expiresAt = System.nanoTime() + ttlNanos;
+        entry.result.complete(response);
+        completed.add(entry);
+        completedSize.incrementAndGet();
+        evict();
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entries.remove(key, entry)) {
+            entry.result.complete(null);
+        }
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getReplayCount() {
+        return replayCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * 유지 시간이 지났거나 최대 개수를 넘은 완료 항목을 오래된 것부터 제거
+     */
+    private void evict() {
+        while (true) {
+            Entry oldest = completed.peek();
+            if (oldest == null || (completedSize.get() <= maxSize && !oldest.isExpired())) {
+                return;
+            }
+            if (completed.remove(oldest)) {
+                completedSize.decrementAndGet();
+                entries.remove(oldest.key, oldest);
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private IdempotentResponse await(Entry entry, long deadline) {
+        try {
+            return entry.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(HttpStatus.CONFLICT.value(),
+                    "멱등성 키 사용 실패: 같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(HttpStatus.CONFLICT.value(),
+                    "멱등성 키 사용 실패: 같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private static class Entry {
+        private final String key;
+        private final String fingerprint;
+        private final CompletableFuture<IdempotentResponse> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;   // 완료 전에는 만료되지 않음
+
+        private Entry(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != Long.MAX_VALUE && expiresAt - System.nanoTime() <= 0;
+        }
+    }
+}
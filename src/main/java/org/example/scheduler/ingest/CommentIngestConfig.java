@@ -0,0 +1,23 @@
+package org.example.scheduler.ingest;
+
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 지연 저장 구성
+ */
+@Configuration
+@EnableConfigurationProperties(CommentIngestProperties.class)
+public class CommentIngestConfig {
+
+    @Bean
+    public CommentIngestQueue commentIngestQueue(CommentIngestProperties properties, CommentStore commentStore, ScheduleStore scheduleStore,
+                                                 TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher) {
+        return new CommentIngestQueue(properties, commentStore, scheduleStore, transactionTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.scheduler.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 댓글 등록 방식 설정 (scheduler.comment.ingest.*)
+ * - sync: 요청 트랜잭션에서 바로 저장 (기본)
+ * - write-behind: 검증과 댓글 자리 예약만 요청에서 처리하고, 저장은 대기열을 거쳐 백그라운드에서 일괄 처리
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.comment.ingest")
+public class CommentIngestProperties {
+    private String mode = "sync";                               // sync, write-behind
+    private int queueCapacity = 10000;                          // 저장 대기 댓글 최대 수 (가득 차면 429)
+    private int batchSize = 500;                                // 한 트랜잭션에서 저장할 최대 댓글 수
+    private Duration flushInterval = Duration.ofMillis(50);     // 배치가 다 차지 않아도 저장하는 주기
+    private Duration shutdownTimeout = Duration.ofSeconds(30);  // 종료 시 남은 댓글을 저장하며 기다리는 최대 시간
+    private int trackingMaxSize = 100000;                       // 처리 상태를 조회할 수 있는 최근 접수 수
+
+    public boolean isWriteBehind() {
+        return "write-behind".equalsIgnoreCase(mode);
+    }
+}
@@ -0,0 +1,358 @@
+package org.example.scheduler.ingest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.dto.comment.CommentIngestResponseDto;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.event.ScheduleChangeType;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 댓글 지연 저장(write-behind) 대기열
+ * - 요청 스레드는 검증/해시/댓글 자리 예약까지만 처리하고 댓글을 대기열에 넣은 뒤 추적 ID로 바로 응답
+ * - comment-writer 스레드가 대기열을 꺼내 일정별로 묶어 한 트랜잭션에서 JDBC 배치 INSERT
+ * - 대기열 자리는 댓글 자리 예약 전에 먼저 확보하여, 가득 찬 경우 DB를 거치지 않고 429로 거절
+ * - 배치 저장이 실패하면 일정별로 다시 저장하고, 그래도 실패한 일정의 댓글은 FAILED 처리 후 예약한 댓글 자리 반납
+ * - 종료 시 새 접수를 막고(503) 이미 접수한 댓글을 모두 저장한 뒤 종료
+ */
+@Slf4j
+public class CommentIngestQueue {
+    private final CommentIngestProperties properties;
+    private final CommentStore commentStore;
+    private final ScheduleStore scheduleStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final LinkedBlockingQueue<PendingComment> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger reserved = new AtomicInteger();    // 확보된 대기열 자리 (접수 처리 중 + 저장 대기 중)
+    private volatile boolean accepting = true;
+    private Thread writer;
+
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition idle = idleLock.newCondition();        // 확보된 자리가 모두 처리되면 signal
+
+    private final ReentrantLock trackingLock = new ReentrantLock();
+    private final LinkedHashMap<String, CommentIngestResponseDto> tracking = new LinkedHashMap<>(); // 추적 ID → 처리 상태 (접수 순서 유지)
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong savedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public CommentIngestQueue(CommentIngestProperties properties, CommentStore commentStore, ScheduleStore scheduleStore,
+                              TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.commentStore = commentStore;
+        this.scheduleStore = scheduleStore;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        writer = new Thread(this::drain, "comment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 새 접수를 막고 남은 댓글을 저장할 때까지 대기 (최대 shutdown-timeout)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        accepting = false;
+        if (writer == null) {
+            return;
+        }
+        writer.join(properties.getShutdownTimeout().toMillis());
+        if (writer.isAlive()) {
+            log.warn("댓글 지연 저장 종료 시간 초과: 저장하지 못한 댓글 {}건", reserved.get());
+            writer.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isWriteBehind();
+    }
+
+    /**
+     * 대기열 자리 확보
+     *
+     * @throws ResponseStatusException 대기열이 가득 차면 429, 종료 중이면 503 반환
+     */
+    public void reserve() {
+        if (!accepting) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "댓글 등록 실패: 서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        int current;
+        do {
+            current = reserved.get();
+            if (current >= properties.getQueueCapacity()) {
+                rejectedCount.incrementAndGet();
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "댓글 등록 실패: 등록 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } while (!reserved.compareAndSet(current, current + 1));
+    }
+
+    /**
+     * 확보한 대기열 자리 반납 (해시/댓글 자리 예약 실패 시)
+     */
+    public void cancel() {
+        release(1);
+    }
+
+    /**
+     * 확보된 대기열 자리가 모두 처리(저장, 실패, 반납)될 때까지 대기
+     * - 배포 전 정리나 테스트에서 접수한 댓글이 저장된 시점을 폴링 없이 확인하기 위해 사용
+     *
+     * @param timeout 최대 대기 시간
+     * @return 제한 시간 안에 모두 처리되면 true
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        idleLock.lock();
+        try {
+            while (reserved.get() > 0) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = idle.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    /**
+     * 확보한 자리에 댓글 추가
+     *
+     * @param comment 저장할 댓글 (비밀번호 해시 완료, 댓글 자리 예약 완료)
+     * @return 접수 상태 (PENDING)
+     */
+    public CommentIngestResponseDto enqueue(Comment comment) {
+        CommentIngestResponseDto pending = CommentIngestResponseDto.pending(UUID.randomUUID().toString(), comment.getScheduleId());
+        track(pending);
+        queue.add(new PendingComment(pending, comment.getName(), comment.getPassword(), comment.getContent(), comment.getScheduleId()));
+        acceptedCount.incrementAndGet();
+        return pending;
+    }
+
+    /**
+     * 접수한 댓글의 처리 상태 조회
+     *
+     * @param trackingId 추적 ID
+     * @return 처리 상태 (오래되어 보관하지 않는 경우 empty)
+     */
+    public Optional<CommentIngestResponseDto> getStatus(String trackingId) {
+        trackingLock.lock();
+        try {
+            return Optional.ofNullable(tracking.get(trackingId));
+        } finally {
+            trackingLock.unlock();
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getSavedCount() {
+        return savedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * 대기열을 배치 단위로 꺼내 저장 (종료 요청 후에는 확보된 자리가 모두 처리될 때까지 계속)
+     */
+    private void drain() {
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        List<PendingComment> batch = new ArrayList<>(properties.getBatchSize());
+        while (accepting || reserved.get() > 0) {
+            try {
+                PendingComment first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("댓글 지연 저장 실패", e);
+            } finally {
+                release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장, 실패하면 일정별로 나눠 다시 저장
+     */
+    private void write(List<PendingComment> batch) {
+        Map<Long, List<PendingComment>> bySchedule = new LinkedHashMap<>();
+        for (PendingComment pendingComment : batch) {
+            bySchedule.computeIfAbsent(pendingComment.scheduleId, id -> new ArrayList<>()).add(pendingComment);
+        }
+        try {
+            insert(bySchedule);
+        } catch (RuntimeException e) {
+            log.warn("댓글 배치 저장 실패, 일정별로 다시 저장: {}", e.getMessage());
+            bySchedule.forEach((scheduleId, comments) -> {
+                try {
+                    insert(Map.of(scheduleId, comments));
+                } catch (RuntimeException scheduleFailure) {
+                    fail(scheduleId, comments, "저장 중 오류가 발생했습니다.");
+                }
+            });
+        }
+    }
+
+    /**
+     * 일정별로 묶은 댓글을 한 트랜잭션에서 저장하고 일정마다 변경 이벤트 발행
+     * - 접수 이후 삭제된 일정의 댓글은 저장하지 않고 FAILED 처리
+     * - 일정 행을 잠근 뒤 저장하여 확인과 저장 사이에 일정이 삭제되어 댓글만 남는 일이 없도록 함
+     */
+    private void insert(Map<Long, List<PendingComment>> bySchedule) {
+        List<PendingComment> inserted = new ArrayList<>();
+        List<Long> missingScheduleIds = new ArrayList<>();
+        List<CommentResponseDto> saved = transactionTemplate.execute(status -> {
+            List<Comment> comments = new ArrayList<>();
+            bySchedule.forEach((scheduleId, pendingComments) -> {
+                if (!scheduleStore.lockForComments(scheduleId)) {
+                    missingScheduleIds.add(scheduleId);
+                    return;
+                }
+                for (PendingComment pendingComment : pendingComments) {
+                    inserted.add(pendingComment);
+                    comments.add(pendingComment.toComment());
+                }
+                eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId, ScheduleChangeType.COMMENT_ADDED));
+            });
+            return comments.isEmpty() ? List.of() : commentStore.saveAllComments(comments);
+        });
+
+        for (int i = 0; i < inserted.size(); i++) {
+            update(inserted.get(i).status.saved(saved.get(i).getId()));
+        }
+        savedCount.addAndGet(inserted.size());
+        for (Long scheduleId : missingScheduleIds) {
+            List<PendingComment> pendingComments = bySchedule.get(scheduleId);
+            pendingComments.forEach(pendingComment -> update(pendingComment.status.failed("존재하지 않는 일정입니다.")));
+            failedCount.addAndGet(pendingComments.size());
+        }
+    }
+
+    /**
+     * 저장하지 못한 댓글을 FAILED 처리하고 예약한 댓글 자리 반납
+     */
+    private void fail(Long scheduleId, List<PendingComment> pendingComments, String error) {
+        pendingComments.forEach(pendingComment -> update(pendingComment.status.failed(error)));
+        failedCount.addAndGet(pendingComments.size());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduleStore.incrementCommentCount(scheduleId, -pendingComments.size(), Integer.MAX_VALUE));
+        } catch (RuntimeException e) {
+            log.error("댓글 자리 반납 실패: scheduleId={}, count={}", scheduleId, pendingComments.size(), e);
+        }
+    }
+
+    private void release(int count) {
+        if (count == 0 || reserved.addAndGet(-count) > 0) {
+            return;
+        }
+        idleLock.lock();
+        try {
+            idle.signalAll();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void track(CommentIngestResponseDto status) {
+        trackingLock.lock();
+        try {
+            tracking.put(status.getTrackingId(), status);
+            if (tracking.size() > properties.getTrackingMaxSize()) { // 가장 오래된 접수부터 제거
+                tracking.remove(tracking.keySet().iterator().next());
+            }
+        } finally {
+            trackingLock.unlock();
+        }
+    }
+
+    /**
+     * 처리 상태 갱신 (이미 보관 기간이 지나 제거된 접수는 다시 추가하지 않음)
+     */
+    private void update(CommentIngestResponseDto status) {
+        trackingLock.lock();
+        try {
+            tracking.replace(status.getTrackingId(), status);
+        } finally {
+            trackingLock.unlock();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 댓글
+     * - 저장을 다시 시도할 때 이전 시도에서 ID가 할당된 엔티티를 재사용하지 않도록 값만 보관
+     */
+    private static class PendingComment {
+        private final CommentIngestResponseDto status;
+        private final String name;
+        private final String password;
+        private final String content;
+        private final Long scheduleId;
+
+        private PendingComment(CommentIngestResponseDto status, String name, String password, String content, Long scheduleId) {
+            this.status = status;
+            this.name = name;
+            this.password = password;
+            this.content = content;
+            this.scheduleId = scheduleId;
+        }
+
+        private Comment toComment() {
+            return new Comment(name, password, content, scheduleId);
+        }
+    }
+}
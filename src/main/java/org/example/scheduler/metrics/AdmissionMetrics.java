@@ -0,0 +1,34 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.admission.AdmissionControl;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 수락 제어의 동시 처리 한도/처리 중 요청 수, 클라이언트 버킷 수, 거절 수를 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionMetrics implements MeterBinder {
+    private final AdmissionControl admissionControl;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.admission.limit", admissionControl, AdmissionControl::getLimit)
+                .register(registry);
+        Gauge.builder("scheduler.admission.in.flight", admissionControl, AdmissionControl::getInFlight)
+                .register(registry);
+        Gauge.builder("scheduler.admission.clients", admissionControl, AdmissionControl::getClientCount)
+                .register(registry);
+        FunctionCounter.builder("scheduler.admission.rejected", admissionControl, AdmissionControl::getRateLimitedCount)
+                .tag("reason", "rate-limited")
+                .register(registry);
+        FunctionCounter.builder("scheduler.admission.rejected", admissionControl, AdmissionControl::getShedCount)
+                .tag("reason", "overloaded")
+                .register(registry);
+    }
+}
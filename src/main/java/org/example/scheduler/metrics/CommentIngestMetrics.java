@@ -0,0 +1,36 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.ingest.CommentIngestQueue;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 지연 저장 대기열 크기와 접수/거절/저장/실패 수를 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentIngestMetrics implements MeterBinder {
+    private final CommentIngestQueue commentIngestQueue;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.comment.ingest.queue.size", commentIngestQueue, CommentIngestQueue::getQueueSize)
+                .register(registry);
+        FunctionCounter.builder("scheduler.comment.ingest", commentIngestQueue, CommentIngestQueue::getAcceptedCount)
+                .tag("result", "accepted")
+                .register(registry);
+        FunctionCounter.builder("scheduler.comment.ingest", commentIngestQueue, CommentIngestQueue::getRejectedCount)
+                .tag("result", "rejected")
+                .register(registry);
+        FunctionCounter.builder("scheduler.comment.ingest", commentIngestQueue, CommentIngestQueue::getSavedCount)
+                .tag("result", "saved")
+                .register(registry);
+        FunctionCounter.builder("scheduler.comment.ingest", commentIngestQueue, CommentIngestQueue::getFailedCount)
+                .tag("result", "failed")
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.security.PasswordHasher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 대기열/실행 수, 거절 수, 검증 결과 캐시 적중 수를 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHasherMetrics implements MeterBinder {
+    private final PasswordHasher passwordHasher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.password.queue.size", passwordHasher, PasswordHasher::getQueueSize)
+                .register(registry);
+        Gauge.builder("scheduler.password.active", passwordHasher, PasswordHasher::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("scheduler.password.rejected", passwordHasher, PasswordHasher::getRejectedCount)
+                .register(registry);
+        FunctionCounter.builder("scheduler.password.verified.hits", passwordHasher, PasswordHasher::getVerifiedHitCount)
+                .register(registry);
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 엔드포인트별 요청 지연 시간, SQL 문 수, 로드된 엔티티 수 기록
+ * - 지연 시간은 p50/p95/p99 백분위와 히스토그램으로 /actuator/prometheus 에 노출
+ * - 임계값을 넘은 요청은 SQL 문 구성과 함께 로그로 남김
+ */
+@Slf4j
+@Component
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestThresholdNanos;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${scheduler.metrics.slow-request-threshold:500ms}") Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThresholdNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.start();
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            RequestStatistics.end();
+            record(request, response, statistics, elapsed);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestStatistics statistics, long elapsed) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+        String method = request.getMethod();
+
+        Timer.builder("scheduler.request.latency")
+                .description("엔드포인트별 요청 처리 시간")
+                .tags("method", method, "uri", uri, "status", String.valueOf(response.getStatus()))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+        DistributionSummary.builder("scheduler.request.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tags("method", method, "uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(statistics.getStatementCount());
+        DistributionSummary.builder("scheduler.request.entities.loaded")
+                .description("요청당 로드된 엔티티 수")
+                .tags("method", method, "uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(statistics.getEntityLoadCount());
+
+        if (elapsed >= slowRequestThresholdNanos) {
+            log.warn("느린 요청: {} {} {}ms, {}", method, request.getRequestURI(), Duration.ofNanos(elapsed).toMillis(), statistics.describe());
+        }
+    }
+}
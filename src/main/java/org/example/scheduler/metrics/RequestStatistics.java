@@ -0,0 +1,77 @@
+package org.example.scheduler.metrics;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나에서 실행된 SQL 문과 로드된 엔티티 수 집계
+ * - 요청 스레드에 묶어 두고 Hibernate StatementInspector / PostLoad 리스너가 증가시킴
+ */
+@Getter
+public class RequestStatistics {
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int selectCount;        // SELECT 문 수
+    private int insertCount;        // INSERT 문 수
+    private int updateCount;        // UPDATE 문 수
+    private int deleteCount;        // DELETE 문 수
+    private int otherCount;         // 그 밖의 SQL 문 수
+    private int entityLoadCount;    // 로드된 엔티티 수
+
+    /**
+     * 현재 스레드에서 집계 시작
+     *
+     * @return 새 집계 객체
+     */
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 집계 조회
+     *
+     * @return 집계 객체, 요청 밖이면 null
+     */
+    public static RequestStatistics current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        String keyword = sql.stripLeading();
+        keyword = keyword.substring(0, Math.min(6, keyword.length())).toLowerCase(Locale.ROOT);
+        switch (keyword) {
+            case "select" -> selectCount++;
+            case "insert" -> insertCount++;
+            case "update" -> updateCount++;
+            case "delete" -> deleteCount++;
+            default -> otherCount++;
+        }
+    }
+
+    void recordEntityLoad() {
+        entityLoadCount++;
+    }
+
+    public int getStatementCount() {
+        return selectCount + insertCount + updateCount + deleteCount + otherCount;
+    }
+
+    /**
+     * 로그 출력용 SQL 문 구성
+     */
+    public String describe() {
+        return "SQL " + getStatementCount() + "건 (select=" + selectCount + ", insert=" + insertCount
+                + ", update=" + updateCount + ", delete=" + deleteCount + ", other=" + otherCount
+                + "), 엔티티 로드 " + entityLoadCount + "건";
+    }
+}
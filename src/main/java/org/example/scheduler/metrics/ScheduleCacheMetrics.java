@@ -0,0 +1,53 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.cache.CacheStats;
+import org.example.scheduler.cache.ScheduleDetailCache;
+import org.example.scheduler.cache.ScheduleJsonCache;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 일정 상세 캐시, 일정 JSON 캐시 통계를 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleCacheMetrics implements MeterBinder {
+    private final ScheduleDetailCache scheduleDetailCache;
+    private final ScheduleJsonCache scheduleJsonCache;
+
+    /**
+     * 캐시 빈 자체를 미터 상태로 등록 (Micrometer는 상태 객체를 약한 참조로 보관하므로 메서드 참조를 상태로 넘기면 GC 후 값이 사라짐)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindStats(registry, "schedule-detail", scheduleDetailCache, ScheduleDetailCache::getStats);
+        bindStats(registry, "schedule-json", scheduleJsonCache, ScheduleJsonCache::getStats);
+        Gauge.builder("scheduler.cache.bytes", scheduleJsonCache, ScheduleJsonCache::getTotalBytes)
+                .tag("cache", "schedule-json")
+                .register(registry);
+    }
+
+    private <T> void bindStats(MeterRegistry registry, String cache, T state, Function<T, CacheStats> stats) {
+        counter(registry, cache, "hit", state, stats, CacheStats::getHitCount);
+        counter(registry, cache, "miss", state, stats, CacheStats::getMissCount);
+        counter(registry, cache, "eviction", state, stats, CacheStats::getEvictionCount);
+        counter(registry, cache, "invalidation", state, stats, CacheStats::getInvalidationCount);
+        Gauge.builder("scheduler.cache.size", state, target -> stats.apply(target).getSize())
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private <T> void counter(MeterRegistry registry, String cache, String result, T state, Function<T, CacheStats> stats,
+                             ToDoubleFunction<CacheStats> value) {
+        FunctionCounter.builder("scheduler.cache.requests", state, target -> value.applyAsDouble(stats.apply(target)))
+                .tags("cache", cache, "result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.feed.ScheduleChangeFeed;
+import org.example.scheduler.feed.ScheduleChangeRingBuffer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 변경 피드 구독자 수, 마지막 변경 순번, 따라오지 못해 끊은 구독자 수를 메트릭으로 노출
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleChangeFeedMetrics implements MeterBinder {
+    private final ScheduleChangeFeed scheduleChangeFeed;
+    private final ScheduleChangeRingBuffer scheduleChangeRingBuffer;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.feed.subscribers", scheduleChangeFeed, ScheduleChangeFeed::getSubscriberCount)
+                .register(registry);
+        Gauge.builder("scheduler.feed.last.sequence", scheduleChangeRingBuffer, ScheduleChangeRingBuffer::getLastSequence)
+                .register(registry);
+        FunctionCounter.builder("scheduler.feed.dropped", scheduleChangeFeed, ScheduleChangeFeed::getDroppedCount)
+                .register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.scheduler.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문을 현재 요청의 집계에 기록
+ * - SessionFactory 통계는 전체 합계라 요청별로 나눌 수 없어 StatementInspector로 직접 집계
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics statistics = RequestStatistics.current();
+        if (statistics != null) {
+            statistics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
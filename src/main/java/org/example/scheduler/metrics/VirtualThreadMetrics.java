@@ -0,0 +1,35 @@
+package org.example.scheduler.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.concurrency.ConnectionPermitLimiter;
+import org.example.scheduler.concurrency.VirtualThreadPinningMonitor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 모드의 커넥션 허가 사용/대기/거절 수와 가상 스레드 고정 횟수를 메트릭으로 노출
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadMetrics implements MeterBinder {
+    private final ConnectionPermitLimiter connectionPermitLimiter;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("scheduler.connection.permits.in.use", connectionPermitLimiter, ConnectionPermitLimiter::getInUse)
+                .register(registry);
+        Gauge.builder("scheduler.connection.permits.waiting", connectionPermitLimiter, ConnectionPermitLimiter::getWaiting)
+                .register(registry);
+        FunctionCounter.builder("scheduler.connection.permits.rejected", connectionPermitLimiter, ConnectionPermitLimiter::getRejectedCount)
+                .register(registry);
+        FunctionCounter.builder("scheduler.virtual.pinned", virtualThreadPinningMonitor, VirtualThreadPinningMonitor::getPinnedCount)
+                .register(registry);
+    }
+}
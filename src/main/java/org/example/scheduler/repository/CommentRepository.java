@@ -1,35 +1,96 @@
 package org.example.scheduler.repository;
 
+import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Comment Entity에 대한 JPA 리포지토리 인터페이스
+ * - 조회 전용 메서드는 응답에 필요한 컬럼만 DTO로 바로 조회 (엔티티/비밀번호 컬럼을 읽지 않음)
  */
 public interface CommentRepository extends JpaRepository<Comment, Long>{
 
+    /**
+     * 댓글 응답 DTO 프로젝션 (비밀번호 제외)
+     */
+    String SELECT_COMMENT_RESPONSE = "select new org.example.scheduler.dto.comment.CommentResponseDto("
+            + "c.id, c.name, c.content, c.scheduleId, c.createdAt, c.modifiedAt) from Comment c ";
+
     /**
      * 특정 일정에 해당하는 모든 댓글 조회
      *
      * @param scheduleId 일정 ID
-     * @return 댓글 목록
+     * @return 댓글 응답 DTO 목록 (최신 수정일 순 정렬)
      */
-    List<Comment> findByScheduleId(Long scheduleId);
+    @Query(SELECT_COMMENT_RESPONSE + "where c.scheduleId = :scheduleId order by c.modifiedAt desc, c.id desc")
+    List<CommentResponseDto> findResponsesByScheduleId(@Param("scheduleId") Long scheduleId);
 
     /**
-     * 특정 일정에 등록된 댓글 수 카운트
+     * 여러 일정에 해당하는 모든 댓글을 한 번에 조회
+     * - 일정 목록의 댓글을 WHERE schedule_id IN (...) 한 번으로 가져와 N+1 조회 방지
      *
-     * @param scheduleId 일정 ID
-     * @return 댓글 개수
+     * @param scheduleIds 일정 ID 목록
+     * @return 댓글 응답 DTO 목록 (일정 ID 순, 일정 안에서는 최신 수정일 순 정렬)
      */
-    Long countByScheduleId(Long scheduleId);
+    @Query(SELECT_COMMENT_RESPONSE + "where c.scheduleId in :scheduleIds order by c.scheduleId, c.modifiedAt desc, c.id desc")
+    List<CommentResponseDto> findResponsesByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
 
     /**
      * 특정 일정에 등록된 댓글 삭제
+     * - 댓글 엔티티를 읽지 않고 DELETE 한 번으로 처리
      *
      * @param scheduleId 일정 ID
+     * @return 삭제된 댓글 수
+     */
+    @Modifying
+    @Query("delete from Comment c where c.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 여러 일정에 등록된 댓글 삭제
+     *
+     * @param scheduleIds 일정 ID 목록
+     * @return 삭제된 댓글 수
+     */
+    @Modifying
+    @Query("delete from Comment c where c.scheduleId in :scheduleIds")
+    int deleteByScheduleIdIn(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    /**
+     * 해시 도입 전 평문 비밀번호 댓글 조회 (알고리즘 접두사가 없는 비밀번호, ID 순)
+     *
+     * @param afterId 이 ID 다음부터 조회
+     * @param limit 최대 조회 수
+     * @return 댓글 ID와 저장된 비밀번호 목록
+     */
+    @Query(value = "select id, password from comment where id > :afterId and password not like '{%' order by id limit :limit",
+            nativeQuery = true)
+    List<LegacyPassword> findLegacyPasswords(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 저장된 비밀번호가 그대로일 때만 새 해시로 교체
+     *
+     * @param id 댓글 ID
+     * @param legacyPassword 조회한 평문 비밀번호
+     * @param passwordHash 새 해시
+     * @return 변경된 행 수
      */
-    void deleteByScheduleId(Long scheduleId);
+    @Modifying
+    @Query("update Comment c set c.password = :passwordHash where c.id = :id and c.password = :legacyPassword")
+    int upgradePassword(@Param("id") Long id, @Param("legacyPassword") String legacyPassword, @Param("passwordHash") String passwordHash);
+
+    /**
+     * 평문 비밀번호 댓글 프로젝션
+     */
+    interface LegacyPassword {
+        Long getId();
+
+        String getPassword();
+    }
 }
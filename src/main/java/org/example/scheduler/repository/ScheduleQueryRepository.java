@@ -0,0 +1,39 @@
+package org.example.scheduler.repository;
+
+import org.example.scheduler.dto.schedule.ScheduleCursor;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 조건에 따라 JPQL을 조립하는 일정 조회 리포지토리
+ * - 작성자명/기간 조건이 선택적이라 필요한 조건만 WHERE 절에 넣어 인덱스를 그대로 사용
+ */
+public interface ScheduleQueryRepository {
+
+    /**
+     * 조건에 맞는 일정 페이지 조회 (기준 일시 내림차순 키셋 페이지네이션)
+     *
+     * @param condition 조회 조건
+     * @param after 이전 페이지의 커서 (첫 페이지면 null)
+     * @param limit 최대 조회 개수
+     * @return 일정 응답 DTO 목록
+     */
+    List<ScheduleResponseDto> findPage(ScheduleSearchCondition condition, ScheduleCursor after, int limit);
+
+    /**
+     * 조건에 맞는 일정 수를 기준 일시의 날짜별로 집계
+     *
+     * @param condition 조회 조건
+     * @return 날짜별 일정 수 (일정이 없는 날짜는 제외, 날짜 오름차순)
+     */
+    List<DailyCount> countByDay(ScheduleSearchCondition condition);
+
+    /**
+     * 날짜별 일정 수
+     */
+    record DailyCount(LocalDate day, long count) {
+    }
+}
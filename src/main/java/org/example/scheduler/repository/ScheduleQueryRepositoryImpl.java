@@ -0,0 +1,84 @@
+package org.example.scheduler.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.example.scheduler.dto.schedule.ScheduleCursor;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * ScheduleQueryRepository 구현체
+ * - 소프트 삭제된 일정은 엔티티의 @SQLRestriction으로 제외되어 (deleted_at, 기준 컬럼, id) 인덱스 범위만 조회
+ */
+public class ScheduleQueryRepositoryImpl implements ScheduleQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ScheduleResponseDto> findPage(ScheduleSearchCondition condition, ScheduleCursor after, int limit) {
+        String field = "s." + condition.getDateField().getProperty();
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(ScheduleRepository.SELECT_SCHEDULE_RESPONSE).append("where 1 = 1");
+        appendCondition(jpql, parameters, condition, field);
+        if (after != null) {
+            jpql.append(" and (").append(field).append(" < :cursorAt or (").append(field).append(" = :cursorAt and s.id < :cursorId))");
+            parameters.put("cursorAt", after.getTimestamp());
+            parameters.put("cursorId", after.getId());
+        }
+        jpql.append(" order by ").append(field).append(" desc, s.id desc");
+
+        TypedQuery<ScheduleResponseDto> query = entityManager.createQuery(jpql.toString(), ScheduleResponseDto.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<DailyCount> countByDay(ScheduleSearchCondition condition) {
+        String field = "s." + condition.getDateField().getProperty();
+        String day = "cast(" + field + " as LocalDate)";
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("select ").append(day).append(", count(s) from Schedule s where 1 = 1");
+        appendCondition(jpql, parameters, condition, field);
+        jpql.append(" group by ").append(day).append(" order by ").append(day);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList().stream()
+                .map(row -> new DailyCount(toLocalDate(row[0]), ((Number) row[1]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작성자명/기간 조건을 WHERE 절에 추가
+     */
+    private void appendCondition(StringBuilder jpql, Map<String, Object> parameters, ScheduleSearchCondition condition, String field) {
+        if (condition.getName() != null) {
+            jpql.append(" and s.name = :name");
+            parameters.put("name", condition.getName());
+        }
+        if (condition.getFrom() != null) {
+            jpql.append(" and ").append(field).append(" >= :from");
+            parameters.put("from", condition.getFrom());
+        }
+        if (condition.getTo() != null) {
+            jpql.append(" and ").append(field).append(" < :to");
+            parameters.put("to", condition.getTo());
+        }
+    }
+
+    /**
+     * DB 방언에 따라 java.sql.Date로 반환되는 날짜 값을 LocalDate로 변환
+     */
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
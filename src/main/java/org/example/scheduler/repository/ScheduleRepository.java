@@ -1,20 +1,169 @@
 package org.example.scheduler.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleVersionDto;
 import org.example.scheduler.entity.Schedule;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Schedule Entity에 대한 JPA 리포지토리 인터페이스
+ * - 목록 조회는 (기준 일시, ID) 키셋 페이지네이션으로 DB에서 정렬/제한 (ScheduleQueryRepository)
+ * - 조회 전용 메서드는 응답에 필요한 컬럼만 DTO로 바로 조회 (엔티티/비밀번호 컬럼을 읽지 않음)
+ * - 소프트 삭제된 일정은 엔티티의 @SQLRestriction으로 조회에서 제외 (정리 작업용 메서드는 네이티브 쿼리)
  */
-public interface ScheduleRepository extends JpaRepository<Schedule, Long>{
+public interface ScheduleRepository extends JpaRepository<Schedule, Long>, ScheduleQueryRepository {
 
     /**
-     * 특정 작성자명에 해당하는 모든 일정 조회
+     * 일정 응답 DTO 프로젝션 (비밀번호 제외)
+     */
+    String SELECT_SCHEDULE_RESPONSE = "select new org.example.scheduler.dto.schedule.ScheduleResponseDto("
+            + "s.id, s.name, s.title, s.content, s.commentCount, s.version, s.createdAt, s.modifiedAt) from Schedule s ";
+
+    /**
+     * 특정 일정 조회
+     *
+     * @param id 일정 ID
+     * @return 일정 응답 DTO
+     */
+    @Query(SELECT_SCHEDULE_RESPONSE + "where s.id = :id")
+    Optional<ScheduleResponseDto> findResponseById(@Param("id") Long id);
+
+    /**
+     * 특정 일정의 버전 정보 조회 (조건부 요청 처리용)
+     * - 일정 PK 조회 + 일정 ID 인덱스를 이용한 마지막 댓글 수정일 서브쿼리
+     *
+     * @param id 일정 ID
+     * @return 일정 버전 정보
+     */
+    @Query("select new org.example.scheduler.dto.schedule.ScheduleVersionDto(s.id, s.version, s.modifiedAt, s.commentCount, " +
+            "(select max(c.modifiedAt) from Comment c where c.scheduleId = s.id)) from Schedule s where s.id = :id")
+    Optional<ScheduleVersionDto> findVersionById(@Param("id") Long id);
+
+    /**
+     * 여러 일정 조회
+     *
+     * @param ids 일정 ID 목록
+     * @return 일정 응답 DTO 목록 (순서 보장 없음)
+     */
+    @Query(SELECT_SCHEDULE_RESPONSE + "where s.id in :ids")
+    List<ScheduleResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 작성자명별 일정 수 집계
+     * - (삭제일, 작성자명, 수정일, ID) 인덱스만 읽어 그룹핑
+     *
+     * @return 작성자명별 일정 수
+     */
+    @Query("select new org.example.scheduler.dto.author.AuthorResponseDto(s.name, count(s)) from Schedule s group by s.name")
+    List<AuthorResponseDto> countByName();
+
+    /**
+     * 전체 일정을 스트림으로 조회 (내보내기용)
+     * - JDBC fetch size 단위로 커서에서 읽어와 전체 결과를 메모리에 올리지 않음
+     * - DTO 프로젝션이라 영속성 컨텍스트에 쌓이는 엔티티가 없음
+     * - 트랜잭션 안에서 사용하고 반드시 close 해야 함
+     *
+     * @return 일정 응답 DTO 스트림 (ID 오름차순)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_SCHEDULE_RESPONSE + "order by s.id")
+    Stream<ScheduleResponseDto> streamAll();
+
+    /**
+     * 삭제되지 않은 일정을 공유 잠금(MySQL FOR SHARE)으로 조회
+     * - 트랜잭션이 끝날 때까지 같은 일정의 삭제/소프트 삭제(배타 잠금)가 기다리므로 확인 후 저장 사이에 일정이 삭제되지 않음
+     * - 먼저 커밋된 삭제가 있으면 최신 행을 읽어 빈 결과 반환
+     *
+     * @param id 일정 ID
+     * @return 일정 Entity
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select s from Schedule s where s.id = :id")
+    Optional<Schedule> findForShareById(@Param("id") Long id);
+
+    /**
+     * 저장된 비밀번호(해시)와 버전이 그대로일 때만 작성자명/제목 수정
+     * - 존재 여부, 비밀번호, 버전 확인과 수정, 버전 증가를 하나의 조건부 UPDATE로 처리 (엔티티 조회/flush 없음)
+     * - 동시에 같은 버전으로 수정하면 먼저 커밋된 요청만 반영되고 나머지는 0건
+     *
+     * @param id 일정 ID
+     * @param password 검증에 사용한 저장된 비밀번호 (해시)
+     * @param version 기대하는 버전 (null이면 버전 확인 안 함)
+     * @param name 수정할 작성자명 (null이면 유지)
+     * @param title 수정할 제목 (null이면 유지)
+     * @param newPassword 새로 저장할 비밀번호 해시 (null이면 유지)
+     * @param modifiedAt 수정일
+     * @return 변경된 행 수 (일정이 없거나 비밀번호/버전이 다르면 0)
+     */
+    @Modifying
+    @Query("update Schedule s set s.name = coalesce(:name, s.name), s.title = coalesce(:title, s.title), " +
+            "s.password = coalesce(:newPassword, s.password), s.modifiedAt = :modifiedAt, s.version = s.version + 1 " +
+            "where s.id = :id and s.deletedAt is null and s.password = :password and (:version is null or s.version = :version)")
+    int updateIfMatches(@Param("id") Long id, @Param("password") String password, @Param("version") Long version,
+                        @Param("name") String name, @Param("title") String title, @Param("newPassword") String newPassword,
+                        @Param("modifiedAt") LocalDateTime modifiedAt);
+
+    /**
+     * 댓글 수 제한 안에서 일정의 댓글 수를 증가 (댓글 자리 예약)
+     * - 일정 존재 여부, 댓글 수 제한 확인, 증가를 하나의 조건부 UPDATE로 처리
+     * - 같은 일정에 대한 동시 등록은 행 잠금으로 직렬화되어 제한을 넘지 않음
+     *
+     * @param id 일정 ID
+     * @param count 예약할 댓글 수
+     * @param limit 일정당 최대 댓글 수
+     * @return 변경된 행 수 (일정이 없거나 제한을 넘으면 0)
+     */
+    @Modifying
+    @Query("update Schedule s set s.commentCount = s.commentCount + :count " +
+            "where s.id = :id and s.deletedAt is null and s.commentCount + :count <= :limit")
+    int incrementCommentCount(@Param("id") Long id, @Param("count") int count, @Param("limit") int limit);
+
+    /**
+     * 삭제되지 않은 일정에 삭제일 기록 (소프트 삭제)
+     * - 엔티티 조회/dirty checking 없이 한 행 조건부 UPDATE로 처리
+     * - 수정일(modified_at)은 바꾸지 않아 (deleted_at, modified_at, id) 인덱스에서 행이 다른 위치로 옮겨가지 않음
+     *
+     * @param id 일정 ID
+     * @param deletedAt 삭제 시각
+     * @return 변경된 행 수 (일정이 없거나 이미 삭제되었으면 0)
+     */
+    @Modifying
+    @Query("update Schedule s set s.deletedAt = :deletedAt where s.id = :id and s.deletedAt is null")
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 정리 대상(삭제 후 보관 시간이 지난) 일정 ID 조회
+     *
+     * @param deletedBefore 이 시각 이전에 삭제된 일정만 조회
+     * @param limit 최대 조회 개수
+     * @return 일정 ID 목록 (삭제일 오름차순)
+     */
+    @Query(value = "select id from schedule where deleted_at is not null and deleted_at < :deletedBefore order by deleted_at limit :limit",
+            nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("deletedBefore") LocalDateTime deletedBefore, @Param("limit") int limit);
+
+    /**
+     * 소프트 삭제된 일정 행 삭제
      *
-     * @param name 작성자명
-     * @return 일정 목록
+     * @param ids 일정 ID 목록
+     * @return 삭제된 일정 수
      */
-    List<Schedule> findByName(String name);
+    @Modifying
+    @Query(value = "delete from schedule where id in (:ids) and deleted_at is not null", nativeQuery = true)
+    int purgeByIdIn(@Param("ids") Collection<Long> ids);
 }
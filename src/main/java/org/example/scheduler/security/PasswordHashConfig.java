@@ -0,0 +1,24 @@
+package org.example.scheduler.security;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비밀번호 해시 구성
+ */
+@Configuration
+@EnableConfigurationProperties(PasswordHashProperties.class)
+public class PasswordHashConfig {
+
+    @Bean
+    public VersionedPasswordEncoder passwordEncoder(PasswordHashProperties properties) {
+        return new VersionedPasswordEncoder(properties.getAlgorithm(), properties.getPbkdf2Iterations(), properties.getBcryptStrength());
+    }
+
+    @Bean
+    public PasswordHasher passwordHasher(VersionedPasswordEncoder passwordEncoder, PasswordHashProperties properties) {
+        return new PasswordHasher(passwordEncoder, properties.getThreads(), properties.getQueueCapacity(), properties.getTimeout(),
+                properties.getVerifiedTtl(), properties.getVerifiedMaxSize());
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.scheduler.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 설정 (scheduler.password.*)
+ * - 해시 비용을 올리면 무차별 대입에 강해지지만 수정/삭제/등록 응답 시간과 처리량이 줄어듦
+ *   (PasswordHashBenchmark로 비용별 해시/검증 시간 측정)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.password")
+public class PasswordHashProperties {
+    private String algorithm = "pbkdf2";                    // 새 해시 알고리즘 (pbkdf2, bcrypt)
+    private int pbkdf2Iterations = 310000;                  // PBKDF2-HMAC-SHA256 반복 횟수
+    private int bcryptStrength = 10;                        // BCrypt 비용 (2^strength 라운드)
+    private int threads = Runtime.getRuntime().availableProcessors(); // 해시 전용 스레드 수
+    private int queueCapacity = 256;                        // 대기 가능한 해시 작업 수 (초과 시 503)
+    private Duration timeout = Duration.ofSeconds(3);       // 해시 작업 최대 대기 시간 (초과 시 503)
+    private Duration verifiedTtl = Duration.ofMinutes(5);   // 검증 성공 결과 유지 시간 (같은 비밀번호 재검증 생략)
+    private int verifiedMaxSize = 10000;                    // 검증 성공 결과 최대 보관 수 (LRU)
+    private boolean migrateLegacyComments = true;           // 기동 후 평문 댓글 비밀번호를 해시로 교체
+    private int migrationBatchSize = 200;                   // 평문 비밀번호 교체 시 한 트랜잭션에서 처리할 댓글 수
+}
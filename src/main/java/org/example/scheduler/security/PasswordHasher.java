@@ -0,0 +1,253 @@
+package org.example.scheduler.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비밀번호 해시/검증
+ * - 느린 해시(PBKDF2/BCrypt)는 전용 스레드 풀에서만 실행하여 동시에 해시하는 수를 CPU 코어 수로 제한
+ * - 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 바로 503으로 거절 (요청 스레드가 해시 대기로 쌓이지 않도록)
+ * - 검증에 성공한 (저장된 해시, 비밀번호) 조합은 HMAC 키로만 잠시 기억하여, 같은 사용자의 연속 수정/삭제는 다시 해시하지 않음
+ *   (저장된 해시가 바뀌면 키도 달라지므로 이전 결과를 사용하지 않음)
+ */
+public class PasswordHasher {
+    private final PasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final long verifiedTtlNanos;
+    private final int verifiedMaxSize;
+
+    private final SecretKeySpec hmacKey;        // 검증 결과 키 생성용 HMAC 키 (프로세스마다 새로 생성)
+    private final ReentrantLock verifiedLock = new ReentrantLock();
+    private final LinkedHashMap<String, Long> verified = new LinkedHashMap<>(16, 0.75f, true); // HMAC 키 → 만료 시각 (접근 순서 유지)
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong verifiedHitCount = new AtomicLong();
+
+    public PasswordHasher(PasswordEncoder encoder, int threads, int queueCapacity, Duration timeout,
+                          Duration verifiedTtl, int verifiedMaxSize) {
+        this.encoder = encoder;
+        this.timeoutNanos = timeout.toNanos();
+        this.verifiedTtlNanos = verifiedTtl.toNanos();
+        this.verifiedMaxSize = verifiedMaxSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @param rawPassword 비밀번호
+     * @return 알고리즘/비용 접두사를 포함한 해시
+     * @throws ResponseStatusException 해시 대기열이 가득 찼거나 시간 초과 시 503 반환
+     */
+    public String hash(String rawPassword) {
+        return await(submit(() -> encoder.encode(rawPassword)), System.nanoTime() + timeoutNanos);
+    }
+
+    /**
+     * 여러 비밀번호 해시 생성 (일괄 등록용)
+     * - 같은 비밀번호라도 항목마다 따로 해시하여 솔트를 공유하지 않음
+     * - 해시 스레드 수만큼씩 나눠 동시에 처리 (대기열을 혼자 채우지 않도록)
+     *
+     * @param rawPasswords 비밀번호 목록
+     * @return 입력 순서대로의 해시 목록
+     * @throws ResponseStatusException 해시 대기열이 가득 찼거나 시간 초과 시 503 반환
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        int window = executor.getMaximumPoolSize();
+        for (int start = 0; start < rawPasswords.size(); start += window) {
+            List<String> slice = rawPasswords.subList(start, Math.min(start + window, rawPasswords.size()));
+            List<Future<String>> futures = new ArrayList<>(slice.size());
+            try {
+                for (String rawPassword : slice) {
+                    futures.add(submit(() -> encoder.encode(rawPassword)));
+                }
+                long deadline = System.nanoTime() + timeoutNanos;
+                for (Future<String> future : futures) {
+                    hashes.add(await(future, deadline));
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true)); // 실패 시 남은 작업 취소 (완료된 작업에는 영향 없음)
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * 비밀번호 검증
+     * - 최근 같은 해시/비밀번호로 검증에 성공했으면 해시 없이 바로 성공
+     *
+     * @param rawPassword 요청 비밀번호
+     * @param encodedPassword 저장된 비밀번호 (해시 또는 해시 도입 전 평문)
+     * @return 일치 여부
+     * @throws ResponseStatusException 해시 대기열이 가득 찼거나 시간 초과 시 503 반환
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        String key = verifiedKey(rawPassword, encodedPassword);
+        if (isVerified(key)) {
+            verifiedHitCount.incrementAndGet();
+            return true;
+        }
+        boolean matches = await(submit(() -> encoder.matches(rawPassword, encodedPassword)), System.nanoTime() + timeoutNanos);
+        if (matches) {
+            markVerified(key);
+        }
+        return matches;
+    }
+
+    /**
+     * 저장된 비밀번호를 현재 설정으로 다시 해시해야 하는지 확인 (평문, 다른 알고리즘/비용)
+     *
+     * @param encodedPassword 저장된 비밀번호
+     * @return 다시 해시해야 하면 true
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 다시 해시한 비밀번호를 검증 성공 상태로 기록 (마이그레이션 직후 재검증 생략)
+     *
+     * @param rawPassword 비밀번호
+     * @param encodedPassword 새로 저장한 해시
+     */
+    public void markVerified(String rawPassword, String encodedPassword) {
+        markVerified(verifiedKey(rawPassword, encodedPassword));
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getVerifiedHitCount() {
+        return verifiedHitCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw unavailable();
+        }
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.incrementAndGet();
+            throw unavailable();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean isVerified(String key) {
+        verifiedLock.lock();
+        try {
+            Long expiresAt = verified.get(key);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt - System.nanoTime() <= 0) {
+                verified.remove(key);
+                return false;
+            }
+            return true;
+        } finally {
+            verifiedLock.unlock();
+        }
+    }
+
+    private void markVerified(String key) {
+        verifiedLock.lock();
+        try {
+            verified.put(key, System.nanoTime() + verifiedTtlNanos);
+            if (verified.size() > verifiedMaxSize) { // 가장 오래 사용하지 않은 항목 제거
+                verified.remove(verified.keySet().iterator().next());
+            }
+        } finally {
+            verifiedLock.unlock();
+        }
+    }
+
+    /**
+     * (저장된 비밀번호, 요청 비밀번호) 조합의 HMAC 키 (비밀번호 원문은 보관하지 않음)
+     */
+    private String verifiedKey(String rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hmacKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResponseStatusException unavailable() {
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "비밀번호 처리 실패: 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.scheduler.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알고리즘/비용을 접두사로 기록하는 비밀번호 인코더
+ * - {bcrypt}해시 : BCrypt (비용은 해시 안에 포함)
+ * - {pbkdf2:반복횟수}해시 : PBKDF2-HMAC-SHA256 (반복 횟수를 접두사에 기록하여 설정을 바꿔도 기존 해시 검증 가능)
+ * - 접두사가 없으면 해시 도입 전 평문으로 보고 상수 시간 비교, upgradeEncoding이 true
+ * - 설정과 다른 알고리즘/비용의 해시도 upgradeEncoding이 true라 검증 성공 시 다시 해시하여 저장
+ */
+public class VersionedPasswordEncoder implements PasswordEncoder {
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final int PBKDF2_SALT_LENGTH = 16;
+
+    private final String algorithm;
+    private final int pbkdf2Iterations;
+    private final BCryptPasswordEncoder bcrypt;
+    private final Map<Integer, Pbkdf2PasswordEncoder> pbkdf2ByIterations = new ConcurrentHashMap<>();
+
+    public VersionedPasswordEncoder(String algorithm, int pbkdf2Iterations, int bcryptStrength) {
+        if (!BCRYPT.equals(algorithm) && !PBKDF2.equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 알고리즘: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.pbkdf2Iterations = pbkdf2Iterations;
+        this.bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        if (BCRYPT.equals(algorithm)) {
+            return "{" + BCRYPT + "}" + bcrypt.encode(rawPassword);
+        }
+        return pbkdf2Prefix(pbkdf2Iterations) + pbkdf2(pbkdf2Iterations).encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        int end = encodedPassword.indexOf('}');
+        String id = encodedPassword.startsWith("{") && end > 0 ? encodedPassword.substring(1, end) : "";
+        if (BCRYPT.equals(id)) {
+            return bcrypt.matches(rawPassword, encodedPassword.substring(end + 1));
+        }
+        if (id.matches(PBKDF2 + ":\\d{1,9}")) {
+            int iterations = Integer.parseInt(id.substring(PBKDF2.length() + 1));
+            return pbkdf2(iterations).matches(rawPassword, encodedPassword.substring(end + 1));
+        }
+        return MessageDigest.isEqual(rawPassword.toString().getBytes(StandardCharsets.UTF_8), // 해시 도입 전 평문
+                encodedPassword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (BCRYPT.equals(algorithm)) {
+            String prefix = "{" + BCRYPT + "}";
+            return !encodedPassword.startsWith(prefix) || bcrypt.upgradeEncoding(encodedPassword.substring(prefix.length()));
+        }
+        return !encodedPassword.startsWith(pbkdf2Prefix(pbkdf2Iterations));
+    }
+
+    private Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return pbkdf2ByIterations.computeIfAbsent(iterations, key -> new Pbkdf2PasswordEncoder("", PBKDF2_SALT_LENGTH, key,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+    }
+
+    private static String pbkdf2Prefix(int iterations) {
+        return "{" + PBKDF2 + ":" + iterations + "}";
+    }
+}
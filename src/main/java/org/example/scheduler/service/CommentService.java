@@ -1,25 +1,45 @@
 package org.example.scheduler.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.batch.BatchItemResultDto;
+import org.example.scheduler.dto.batch.BatchResponseDto;
+import org.example.scheduler.dto.comment.CommentIngestResponseDto;
 import org.example.scheduler.dto.comment.CommentRequestDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.entity.Comment;
-import org.example.scheduler.repository.CommentRepository;
-import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.event.ScheduleChangeType;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.ingest.CommentIngestQueue;
+import org.example.scheduler.security.PasswordHasher;
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스
- * - 댓글 생성 기능 제공
+ * - 댓글 생성, 일괄 생성, 지연 저장(write-behind) 접수 기능 제공
+ * - 비밀번호 해시는 트랜잭션 밖에서 처리하여 해시하는 동안 DB 커넥션을 점유하지 않음
  */
 @Service
 @RequiredArgsConstructor
 public class CommentService {
-    private final CommentRepository commentRepository;
-    private final ScheduleRepository scheduleRepository;
+    private static final int MAX_COMMENT_COUNT = 10;  // 일정당 최대 댓글 수
+
+    private final CommentStore commentStore;
+    private final ScheduleStore scheduleStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final CommentIngestQueue commentIngestQueue;
 
     /**
      * 댓글 저장
@@ -27,15 +47,112 @@ public class CommentService {
      * @param commentRequestDto 댓글 생성 요청 데이터
      * @return 생성된 댓글 응답 DTO (최신 수정일 순 정렬)
      */
-    @Transactional
     public CommentResponseDto saveComment(CommentRequestDto commentRequestDto, Long scheduleId){
-        validateScheduleExists(scheduleId, "등록");
         validateCommentRequest(commentRequestDto, "등록");
-        validateCommentLimit(scheduleId, "등록");
-        Comment comment = new Comment(commentRequestDto.getName(), commentRequestDto.getPassword(), commentRequestDto.getContent(), scheduleId);
+        checkCommentSlots(scheduleId, 1, "등록");
+        Comment comment = new Comment(commentRequestDto.getName(), passwordHasher.hash(commentRequestDto.getPassword()), commentRequestDto.getContent(), scheduleId);
+
+        return transactionTemplate.execute(status -> {
+            reserveCommentSlots(scheduleId, 1, "등록");
+            CommentResponseDto saved = commentStore.save(comment);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId, ScheduleChangeType.COMMENT_ADDED));
+            return saved;
+        });
+    }
+
+    /**
+     * 댓글 지연 저장 접수 (scheduler.comment.ingest.mode=write-behind)
+     * - 검증, 비밀번호 해시, 댓글 자리 예약(조건부 UPDATE 한 번)까지만 처리하고 저장은 CommentIngestQueue에 맡김
+     * - 해시 전에 대기열 자리를 먼저 확보하여, 가득 찬 경우 해시/댓글 자리 예약 없이 바로 거절
+     * - 확보 이후 단계(일정 확인, 해시, 댓글 자리 예약)가 실패하면 확보한 대기열 자리 반납
+     *
+     * @param commentRequestDto 댓글 생성 요청 데이터
+     * @param scheduleId 일정 ID
+     * @return 접수 상태 (추적 ID 포함)
+     * @throws ResponseStatusException 대기열이 가득 차면 429, 일정이 없으면 404, 댓글 수 제한을 넘으면 400 반환
+     */
+    public CommentIngestResponseDto acceptComment(CommentRequestDto commentRequestDto, Long scheduleId) {
+        validateCommentRequest(commentRequestDto, "등록");
+
+        commentIngestQueue.reserve();
+        Comment comment;
+        try {
+            checkCommentSlots(scheduleId, 1, "등록");
+            comment = new Comment(commentRequestDto.getName(), passwordHasher.hash(commentRequestDto.getPassword()), commentRequestDto.getContent(), scheduleId);
+            transactionTemplate.executeWithoutResult(status -> reserveCommentSlots(scheduleId, 1, "등록"));
+        } catch (RuntimeException e) {
+            commentIngestQueue.cancel();
+            throw e;
+        }
+        return commentIngestQueue.enqueue(comment);
+    }
+
+    /**
+     * 지연 저장 댓글의 처리 상태 조회
+     *
+     * @param trackingId 접수 추적 ID
+     * @return 처리 상태
+     * @throws ResponseStatusException 추적 ID가 없거나 보관 기간이 지난 경우 404 반환
+     */
+    public CommentIngestResponseDto getIngestStatus(String trackingId) {
+        return commentIngestQueue.getStatus(trackingId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글 접수 조회 실패: 존재하지 않는 추적 ID입니다."));
+    }
+
+    /**
+     * 댓글 지연 저장 사용 여부
+     */
+    public boolean isWriteBehind() {
+        return commentIngestQueue.isEnabled();
+    }
+
+    /**
+     * 댓글 일괄 저장
+     * - 전체 요청과 남은 댓글 자리를 먼저 확인하고 비밀번호를 해시한 뒤, 유효한 댓글 수만큼 한 번에 자리를 예약하고 JDBC 배치로 INSERT
+     *
+     * @param commentRequestDtos 댓글 생성 요청 데이터 목록
+     * @param scheduleId 일정 ID
+     * @return 요청 순서대로의 항목별 등록 결과
+     */
+    public BatchResponseDto<CommentResponseDto> saveComments(List<CommentRequestDto> commentRequestDtos, Long scheduleId) {
+        if (commentRequestDtos == null || commentRequestDtos.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 일괄 등록 실패: 등록할 댓글이 없습니다.");
+        }
+        List<BatchItemResultDto<CommentResponseDto>> results = new ArrayList<>(Collections.nCopies(commentRequestDtos.size(), null));
+
+        List<Integer> commentIndexes = new ArrayList<>();
+        for (int i = 0; i < commentRequestDtos.size(); i++) {
+            try {
+                validateCommentRequest(commentRequestDtos.get(i), "등록");
+                commentIndexes.add(i);
+            } catch (ResponseStatusException e) {
+                results.set(i, BatchItemResultDto.failure(i, e.getReason()));
+            }
+        }
+        if (commentIndexes.isEmpty()) {
+            return new BatchResponseDto<>(results);
+        }
+        checkCommentSlots(scheduleId, commentIndexes.size(), "일괄 등록");
+
+        List<String> passwordHashes = passwordHasher.hashAll(commentIndexes.stream()
+                .map(i -> commentRequestDtos.get(i).getPassword())
+                .collect(Collectors.toList()));
+        List<Comment> comments = new ArrayList<>(commentIndexes.size());
+        for (int k = 0; k < commentIndexes.size(); k++) {
+            CommentRequestDto commentRequestDto = commentRequestDtos.get(commentIndexes.get(k));
+            comments.add(new Comment(commentRequestDto.getName(), passwordHashes.get(k), commentRequestDto.getContent(), scheduleId));
+        }
 
-        commentRepository.save(comment);
-        return new CommentResponseDto(comment);
+        List<CommentResponseDto> saved = transactionTemplate.execute(status -> {
+            reserveCommentSlots(scheduleId, comments.size(), "일괄 등록");
+            List<CommentResponseDto> savedComments = commentStore.saveAllComments(comments);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(scheduleId, ScheduleChangeType.COMMENT_ADDED));
+            return savedComments;
+        });
+        for (int i = 0; i < saved.size(); i++) {
+            results.set(commentIndexes.get(i), BatchItemResultDto.success(commentIndexes.get(i), saved.get(i)));
+        }
+        return new BatchResponseDto<>(results);
     }
 
     /**
@@ -43,7 +160,7 @@ public class CommentService {
      * @throws ResponseStatusException 유효하지 않은 경우 404 반환
      */
     private void validateScheduleExists(Long scheduleId, String action) {
-        if(!scheduleRepository.existsById(scheduleId)){
+        if(!scheduleStore.existsById(scheduleId)){
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글 "+action+" 실패: 존재하지 않는 ID입니다.");
         }
     }
@@ -52,9 +169,13 @@ public class CommentService {
      * 댓글 생성 요청 데이터 검증
      * - 작성자명, 비밀번호, 내용 필수값 확인
      * - 작성자명: 최대 20자, 내용: 최대 100자
+     * - 벤치마크에서 직접 호출할 수 있도록 package-private
      * @throws ResponseStatusException 유효하지 않은 경우 400 반환
      */
-    private void validateCommentRequest(CommentRequestDto commentRequestDto, String action) {
+    void validateCommentRequest(CommentRequestDto commentRequestDto, String action) {
+        if (commentRequestDto == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 "+action+" 실패: 요청 값이 없습니다.");
+        }
         if (commentRequestDto.getName() == null || commentRequestDto.getName().trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 "+action+" 실패: 작성자명을 입력해주세요.");
         }
@@ -73,13 +194,35 @@ public class CommentService {
     }
 
     /**
-     * 댓글 개수 검증
-     * - 단일 일정에 댓글 최대 10개
-     * @throws ResponseStatusException 유효하지 않은 경우 400 반환
+     * 댓글 자리 예약
+     * - 조건부 UPDATE 한 번으로 일정 존재 여부와 댓글 수 제한(최대 10개)을 확인하고 댓글 수 증가
+     * - 예약에 실패한 경우에만 원인 구분을 위해 일정 존재 여부 조회
+     * @throws ResponseStatusException 일정이 없으면 404, 댓글 수 제한을 넘으면 400 반환
+     */
+    private void reserveCommentSlots(Long scheduleId, int count, String action) {
+        if (scheduleStore.incrementCommentCount(scheduleId, count, MAX_COMMENT_COUNT) == 1) {
+            return;
+        }
+        validateScheduleExists(scheduleId, action);
+        throw commentLimitExceeded(action);
+    }
+
+    /**
+     * 댓글 자리 사전 확인
+     * - 비밀번호 해시(느린 작업) 전에 일정 존재 여부와 남은 댓글 자리를 확인하여, 어차피 실패할 요청에 해시 스레드를 쓰지 않음
+     * - 복제 지연 없이 확인하도록 primary에서 조회, 확인 이후의 동시 등록은 reserveCommentSlots의 조건부 UPDATE가 최종 판단
+     * @throws ResponseStatusException 일정이 없으면 404, 댓글 수 제한을 넘으면 400 반환
      */
-    private void validateCommentLimit(Long scheduleId, String action) {
-        if (commentRepository.countByScheduleId(scheduleId) >= 10) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 "+action+" 실패: 하나의 일정에 최대 10개의 댓글을 달 수 있습니다.");
+    private void checkCommentSlots(Long scheduleId, int count, String action) {
+        int commentCount = transactionTemplate.execute(status -> scheduleStore.findResponseById(scheduleId))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글 "+action+" 실패: 존재하지 않는 ID입니다."))
+                .getCommentCount();
+        if (commentCount + count > MAX_COMMENT_COUNT) {
+            throw commentLimitExceeded(action);
         }
     }
+
+    private ResponseStatusException commentLimitExceeded(String action) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "댓글 "+action+" 실패: 하나의 일정에 최대 "+MAX_COMMENT_COUNT+"개의 댓글을 달 수 있습니다.");
+    }
 }
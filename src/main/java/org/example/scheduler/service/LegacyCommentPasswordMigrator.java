@@ -0,0 +1,104 @@
+package org.example.scheduler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.CommentRepository.LegacyPassword;
+import org.example.scheduler.security.PasswordHashProperties;
+import org.example.scheduler.security.PasswordHasher;
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 해시 도입 전 평문으로 저장된 댓글 비밀번호를 해시로 교체하는 일회성 작업 (JPA 저장소에서만 등록)
+ * - 일정 비밀번호는 수정/삭제 검증 때 다시 해시하지만, 댓글은 비밀번호를 검증하는 경로가 없어 평문이 그대로 남음
+ * - 기동 후 별도 스레드에서 평문 댓글을 ID 순으로 batch-size 개씩 해시하고, 비밀번호가 그대로인 행만 조건부 UPDATE
+ * - 해시는 요청과 같은 password-hasher 풀에서 실행하고, 대기열이 가득 차면 잠시 쉬었다가 다시 시도
+ */
+@Slf4j
+@Component
+@Profile(StorageProfiles.NOT_MEMORY)
+@ConditionalOnProperty(name = "scheduler.password.migrate-legacy-comments", havingValue = "true", matchIfMissing = true)
+public class LegacyCommentPasswordMigrator {
+    private static final long RETRY_DELAY_MILLIS = 1000;   // 해시 대기열이 가득 찼을 때 다시 시도하기 전 대기 시간
+
+    private final CommentRepository commentRepository;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public LegacyCommentPasswordMigrator(CommentRepository commentRepository,
+                                         PasswordHasher passwordHasher,
+                                         PlatformTransactionManager transactionManager,
+                                         PasswordHashProperties properties) {
+        this.commentRepository = commentRepository;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = properties.getMigrationBatchSize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(() -> {
+            try {
+                migrate();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("평문 댓글 비밀번호 교체 중단: {}", e.getMessage());
+            }
+        }, "comment-password-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 평문 댓글 비밀번호를 모두 해시로 교체
+     *
+     * @return 교체한 댓글 수
+     */
+    int migrate() throws InterruptedException {
+        long afterId = 0;
+        int total = 0;
+        List<LegacyPassword> batch;
+        while (!(batch = commentRepository.findLegacyPasswords(afterId, batchSize)).isEmpty()) {
+            List<String> hashes = hashAll(batch.stream().map(LegacyPassword::getPassword).collect(Collectors.toList()));
+            List<LegacyPassword> comments = batch;
+            Integer upgraded = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (int i = 0; i < comments.size(); i++) {
+                    count += commentRepository.upgradePassword(comments.get(i).getId(), comments.get(i).getPassword(), hashes.get(i));
+                }
+                return count;
+            });
+            total += upgraded == null ? 0 : upgraded;
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (total > 0) {
+            log.info("평문 댓글 비밀번호 {}건을 해시로 교체", total);
+        }
+        return total;
+    }
+
+    /**
+     * 해시 대기열이 가득 차 거절되면 잠시 후 다시 시도 (요청 처리를 우선)
+     */
+    private List<String> hashAll(List<String> passwords) throws InterruptedException {
+        while (true) {
+            try {
+                return passwordHasher.hashAll(passwords);
+            } catch (ResponseStatusException e) {
+                Thread.sleep(RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+}
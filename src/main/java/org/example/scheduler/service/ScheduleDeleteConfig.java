@@ -0,0 +1,12 @@
+package org.example.scheduler.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 일정 삭제 설정 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ScheduleDeleteProperties.class)
+public class ScheduleDeleteConfig {
+}
@@ -0,0 +1,9 @@
+package org.example.scheduler.service;
+
+/**
+ * 일정 삭제 방식 (scheduler.delete.mode)
+ */
+public enum ScheduleDeleteMode {
+    HARD,   // 댓글과 일정을 요청에서 바로 삭제
+    SOFT    // 삭제일만 기록하고, 행/댓글 삭제는 SchedulePurger가 처리
+}
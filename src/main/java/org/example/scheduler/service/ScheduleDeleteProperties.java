@@ -0,0 +1,30 @@
+package org.example.scheduler.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 일정 삭제 설정 (scheduler.delete.*)
+ * - mode는 hard/soft만 허용 (그 외 값은 기동 시 바인딩 오류)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scheduler.delete")
+public class ScheduleDeleteProperties {
+    private ScheduleDeleteMode mode = ScheduleDeleteMode.HARD;
+    private final Purge purge = new Purge();
+
+    /**
+     * soft 모드 정리 작업 설정 (scheduler.delete.purge.*)
+     */
+    @Getter
+    @Setter
+    public static class Purge {
+        private Duration interval = Duration.ofMinutes(1);      // 정리 작업 주기
+        private Duration retention = Duration.ofMinutes(10);    // 삭제 후 실제 정리까지 보관 시간
+        private int batchSize = 500;                            // 한 트랜잭션에서 정리할 일정 수
+    }
+}
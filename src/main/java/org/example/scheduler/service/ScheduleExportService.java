@@ -0,0 +1,59 @@
+package org.example.scheduler.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정 내보내기 로직을 처리하는 서비스
+ * - 전체 일정을 NDJSON(한 줄에 일정 하나) 형식으로 출력 스트림에 바로 기록
+ * - DTO 프로젝션 스트림으로 읽어 영속성 컨텍스트에 엔티티가 쌓이지 않으므로 힙 사용량이 일정하게 유지됨
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+    private static final int FLUSH_INTERVAL = 500;  // 몇 건마다 출력 스트림을 flush 할지
+
+    private final ScheduleStore scheduleStore;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 일정 내보내기
+     * - 첫 건은 바로 flush 하여 응답 첫 바이트가 지연되지 않도록 함
+     *
+     * @param outputStream 일정을 기록할 출력 스트림 (호출한 쪽에서 close)
+     */
+    @Transactional(readOnly = true)
+    public void exportSchedules(OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ScheduleResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        try (Stream<ScheduleResponseDto> schedules = scheduleStore.streamAll()) {
+            Iterator<ScheduleResponseDto> iterator = schedules.iterator();
+            long count = 0;
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+
+                if (count++ % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        generator.close();
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.scheduler.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 소프트 삭제된 일정 정리 작업 (JPA 저장소에서 scheduler.delete.mode=soft 일 때만 등록)
+ * - 보관 시간이 지난 일정과 댓글을 요청 경로 밖에서 주기적으로 삭제
+ * - 한 트랜잭션에서 batch-size 개씩만 삭제하여 잠금 범위와 트랜잭션 크기를 제한
+ */
+@Slf4j
+@Component
+@Profile(StorageProfiles.NOT_MEMORY)
+@ConditionalOnProperty(name = "scheduler.delete.mode", havingValue = "soft")
+public class SchedulePurger {
+    private final ScheduleRepository scheduleRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;   // 삭제 후 실제 정리까지 보관 시간
+    private final int batchSize;        // 한 트랜잭션에서 정리할 일정 수
+
+    public SchedulePurger(ScheduleRepository scheduleRepository,
+                          CommentRepository commentRepository,
+                          PlatformTransactionManager transactionManager,
+                          ScheduleDeleteProperties properties) {
+        this.scheduleRepository = scheduleRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = properties.getPurge().getRetention();
+        this.batchSize = properties.getPurge().getBatchSize();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.delete.purge.interval:1m}")
+    public void purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int purged;
+        do {
+            purged = purgeBatch(deletedBefore);
+            total += purged;
+        } while (purged == batchSize);
+
+        if (total > 0) {
+            log.info("소프트 삭제된 일정 {}건 정리", total);
+        }
+    }
+
+    /**
+     * 정리 대상 일정을 batch-size 개까지 댓글과 함께 삭제
+     *
+     * @return 정리한 일정 수
+     */
+    private int purgeBatch(LocalDateTime deletedBefore) {
+        Integer purged = transactionTemplate.execute(status -> {
+            List<Long> ids = scheduleRepository.findPurgeableIds(deletedBefore, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            commentRepository.deleteByScheduleIdIn(ids);
+            scheduleRepository.purgeByIdIn(ids);
+            return ids.size();
+        });
+        return purged == null ? 0 : purged;
+    }
+}
@@ -1,31 +1,65 @@
 package org.example.scheduler.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.scheduler.author.AuthorIndex;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.batch.BatchItemResultDto;
+import org.example.scheduler.dto.batch.BatchResponseDto;
 import org.example.scheduler.dto.comment.CommentResponseDto;
 import org.example.scheduler.dto.schedule.*;
-import org.example.scheduler.entity.Comment;
 import org.example.scheduler.entity.Schedule;
-import org.example.scheduler.repository.CommentRepository;
-import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.event.ScheduleChangeType;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.example.scheduler.repository.ScheduleQueryRepository;
+import org.example.scheduler.security.PasswordHasher;
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.ScheduleStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * 일정 관련 비즈니스 로직을 처리하는 서비스
  * - 일정 생성, 조회, 수정, 삭제 기능 제공
  * - 단일 일정 조회 시 댓글 목록도 함께 조회
+ * - 비밀번호 해시/검증은 트랜잭션 밖에서 처리하여 해시하는 동안 DB 커넥션을 점유하지 않음 (쓰기는 TransactionTemplate)
  */
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
-    private final ScheduleRepository scheduleRepository;
-    private final CommentRepository commentRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_COMMENT_LIMIT = 10;    // 일정당 최대 댓글 수
+    private static final int MAX_BUCKET_DAYS = 3660;    // 집계 최대 기간 (일)
+    private static final int MAX_AUTHOR_LIMIT = 100;    // 작성자 검색 최대 결과 수
+
+    private final ScheduleStore scheduleStore;
+    private final CommentStore commentStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuthorIndex authorIndex;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleDeleteProperties deleteProperties;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int batchSize;      // 한 번에 flush 할 INSERT 개수 (JDBC 배치 크기)
+
+    @Value("${scheduler.batch.max-items:10000}")
+    private int maxBatchItems;  // 일괄 등록 요청당 최대 항목 수
 
     /**
      * 일정 저장
@@ -33,43 +67,177 @@ public class ScheduleService {
      * @param scheduleRequestDto 일정 생성 요청 데이터
      * @return 생성된 일정 응답 DTO
      */
-    @Transactional
     public ScheduleResponseDto saveSchedule(ScheduleRequestDto scheduleRequestDto){
         validateScheduleRequest(scheduleRequestDto, "등록");
-        Schedule schedule = new Schedule(scheduleRequestDto.getName(), scheduleRequestDto.getPassword(), scheduleRequestDto.getTitle(), scheduleRequestDto.getContent());
+        String passwordHash = passwordHasher.hash(scheduleRequestDto.getPassword());
+        Schedule schedule = new Schedule(scheduleRequestDto.getName(), passwordHash, scheduleRequestDto.getTitle(), scheduleRequestDto.getContent());
+
+        return transactionTemplate.execute(status -> {
+            ScheduleResponseDto saved = scheduleStore.save(schedule);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(saved.getId(), ScheduleChangeType.CREATED, saved.getName(), null));
+            return saved;
+        });
+    }
 
-        scheduleRepository.save(schedule);
+    /**
+     * 일정 일괄 저장
+     * - 전체 요청을 먼저 검증하고 유효한 일정의 비밀번호를 항목마다 해시한 뒤, JDBC 배치 크기 단위로 INSERT
+     * - 배치마다 flush 후 영속성 컨텍스트를 비워 메모리 사용량 유지
+     *
+     * @param scheduleRequestDtos 일정 생성 요청 데이터 목록
+     * @return 요청 순서대로의 항목별 등록 결과
+     */
+    public BatchResponseDto<ScheduleResponseDto> saveSchedules(List<ScheduleRequestDto> scheduleRequestDtos) {
+        validateBatchSize(scheduleRequestDtos, "일괄 등록");
+        List<BatchItemResultDto<ScheduleResponseDto>> results = new ArrayList<>(Collections.nCopies(scheduleRequestDtos.size(), null));
 
-        return new ScheduleResponseDto(schedule);
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < scheduleRequestDtos.size(); i++) {
+            try {
+                validateScheduleRequest(scheduleRequestDtos.get(i), "등록");
+                validIndexes.add(i);
+            } catch (ResponseStatusException e) {
+                results.set(i, BatchItemResultDto.failure(i, e.getReason()));
+            }
+        }
+        List<String> passwordHashes = passwordHasher.hashAll(validIndexes.stream()
+                .map(i -> scheduleRequestDtos.get(i).getPassword())
+                .collect(Collectors.toList()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Schedule> chunk = new ArrayList<>(batchSize);
+            List<Integer> chunkIndexes = new ArrayList<>(batchSize);
+            for (int k = 0; k < validIndexes.size(); k++) {
+                ScheduleRequestDto scheduleRequestDto = scheduleRequestDtos.get(validIndexes.get(k));
+                chunk.add(new Schedule(scheduleRequestDto.getName(), passwordHashes.get(k), scheduleRequestDto.getTitle(), scheduleRequestDto.getContent()));
+                chunkIndexes.add(validIndexes.get(k));
+
+                if (chunk.size() == batchSize) {
+                    flushScheduleChunk(chunk, chunkIndexes, results);
+                }
+            }
+            flushScheduleChunk(chunk, chunkIndexes, results);
+        });
+
+        return new BatchResponseDto<>(results);
     }
 
     /**
      * 전체 일정 조회
      *
-     * @return 전체 일정 목록 응답 DTO (최신 수정일 순 정렬)
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 전체 일정 페이지 응답 DTO (최신 수정일 순 정렬)
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponseDto> getAllSchedules(){
-        return scheduleRepository.findAll() // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .sorted(Comparator.comparing(Schedule::getModifiedAt).reversed())
-                .map(ScheduleResponseDto::new)
-                .collect(Collectors.toList());
+    public SchedulePageResponseDto<ScheduleResponseDto> getAllSchedules(String cursor, int size){
+        return searchSchedules(ScheduleSearchCondition.byName(null), cursor, size);
     }
 
     /**
      * 작성자명으로 일정 조회
      *
      * @param name 작성자명
-     * @return 특정 작성자의 일정 목록 응답 DTO (최신 수정일 순 정렬)
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 특정 작성자의 일정 페이지 응답 DTO (최신 수정일 순 정렬)
+     */
+    @Transactional(readOnly = true)
+    public SchedulePageResponseDto<ScheduleResponseDto> getSchedulesByName(String name, String cursor, int size) {
+        return searchSchedules(ScheduleSearchCondition.byName(name), cursor, size);
+    }
+
+    /**
+     * 조건(작성자명, 작성일/수정일 기간)에 맞는 일정 조회
+     *
+     * @param condition 조회 조건
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 일정 페이지 응답 DTO (기준 일시 내림차순 정렬)
+     */
+    @Transactional(readOnly = true)
+    public SchedulePageResponseDto<ScheduleResponseDto> searchSchedules(ScheduleSearchCondition condition, String cursor, int size) {
+        validatePageSize(size, "조회");
+        validatePeriod(condition, "조회");
+        ScheduleCursor after = ScheduleCursor.decode(cursor);
+
+        List<ScheduleResponseDto> schedules = scheduleStore.findPage(condition, after, size + 1); // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        return toPage(schedules, size, condition.getDateField());
+    }
+
+    /**
+     * 조건에 맞는 일정 수를 일/주/월 단위로 집계
+     * - DB에서 날짜별로 GROUP BY 한 결과(최대 구간 일수만큼의 행)를 주/월 단위로 합산
+     * - 일정이 없는 구간도 0으로 포함
+     *
+     * @param condition 조회 조건 (from, to 필수)
+     * @param unit 집계 단위
+     * @return 구간 시작일 오름차순의 구간별 일정 수
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleBucketResponseDto> getScheduleBuckets(ScheduleSearchCondition condition, ScheduleBucketUnit unit) {
+        if (condition.getFrom() == null || condition.getTo() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 집계 실패: from, to는 필수값입니다.");
+        }
+        validatePeriod(condition, "집계");
+        LocalDate first = unit.truncate(condition.getFrom().toLocalDate());
+        LocalDate last = condition.getTo().minusNanos(1).toLocalDate();
+        if (ChronoUnit.DAYS.between(first, last) >= MAX_BUCKET_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 집계 실패: 기간은 최대 "+MAX_BUCKET_DAYS+"일까지 가능합니다.");
+        }
+
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (ScheduleQueryRepository.DailyCount dailyCount : scheduleStore.countByDay(condition)) {
+            counts.merge(unit.truncate(dailyCount.day()), dailyCount.count(), Long::sum);
+        }
+        List<ScheduleBucketResponseDto> buckets = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(last); start = unit.next(start)) {
+            buckets.add(new ScheduleBucketResponseDto(start, counts.getOrDefault(start, 0L)));
+        }
+        return buckets;
+    }
+
+    /**
+     * 댓글을 포함한 일정 목록 조회
+     * - 일정 페이지 조회 1번 + 댓글 IN 조회 1번으로 페이지 크기와 상관없이 조회 횟수 고정
+     *
+     * @param condition 조회 조건
+     * @param cursor 이전 페이지에서 전달받은 커서 (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @param commentLimit 일정당 포함할 최대 댓글 수
+     * @return 일정 + 댓글 페이지 응답 DTO (기준 일시 내림차순 정렬)
      */
     @Transactional(readOnly = true)
-    public List<ScheduleResponseDto> getSchedulesByName(String name) {
-        return scheduleRepository.findByName(name) // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .sorted(Comparator.comparing(Schedule::getModifiedAt).reversed())
-                .map(ScheduleResponseDto::new)
+    public SchedulePageResponseDto<ScheduleWithCommentsResponseDto> getSchedulesWithComments(ScheduleSearchCondition condition, String cursor, int size, int commentLimit) {
+        validateCommentLimit(commentLimit, "조회");
+        SchedulePageResponseDto<ScheduleResponseDto> page = searchSchedules(condition, cursor, size);
+        return new SchedulePageResponseDto<>(attachComments(page.getSchedules(), commentLimit), page.getNextCursor());
+    }
+
+    /**
+     * 여러 ID의 일정과 댓글 목록을 한 번에 조회
+     * - 일정 IN 조회 1번 + 댓글 IN 조회 1번
+     *
+     * @param ids 일정 ID 목록 (존재하지 않는 ID는 결과에서 제외)
+     * @param commentLimit 일정당 포함할 최대 댓글 수
+     * @return 요청한 ID 순서대로의 일정 + 댓글 목록 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleWithCommentsResponseDto> getSchedulesWithCommentsByIds(List<Long> ids, int commentLimit) {
+        if (ids.isEmpty() || ids.size() > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 조회 실패: 한 번에 1개 이상 "+MAX_PAGE_SIZE+"개 이하의 ID로 조회할 수 있습니다.");
+        }
+        validateCommentLimit(commentLimit, "조회");
+
+        Map<Long, ScheduleResponseDto> schedulesById = new HashMap<>();
+        for (ScheduleResponseDto schedule : scheduleStore.findResponsesByIdIn(new LinkedHashSet<>(ids))) {
+            schedulesById.put(schedule.getId(), schedule);
+        }
+        List<ScheduleResponseDto> schedules = new LinkedHashSet<>(ids).stream()
+                .filter(schedulesById::containsKey)
+                .map(schedulesById::get)
                 .collect(Collectors.toList());
+        return attachComments(schedules, commentLimit);
     }
 
     /**
@@ -80,15 +248,43 @@ public class ScheduleService {
      */
     @Transactional(readOnly = true)
     public ScheduleWithCommentsResponseDto getScheduleWithCommentsById(Long id) {
-        Schedule schedule = getScheduleOrThrow(id, "조회");
+        ScheduleResponseDto schedule = scheduleStore.findResponseById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 조회 실패: 존재하지 않는 ID 입니다."));
 
-        List<CommentResponseDto> comments = commentRepository.findByScheduleId(id) // 최신 수정일 기준 내림차순 정렬
-                .stream()
-                .sorted(Comparator.comparing(Comment::getModifiedAt).reversed())
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+        List<CommentResponseDto> comments = commentStore.findResponsesByScheduleId(id); // 최신 수정일 기준 내림차순 정렬 (DB)
+
+        return new ScheduleWithCommentsResponseDto(schedule, comments);
+    }
+
+    /**
+     * 특정 일정의 버전 정보 조회
+     * - 댓글 목록과 본문을 읽지 않고 상세 응답의 변경 여부만 판단
+     *
+     * @param id 일정 ID
+     * @return 일정 버전 정보
+     */
+    @Transactional(readOnly = true)
+    public ScheduleVersionDto getScheduleVersion(Long id) {
+        return scheduleStore.findVersionById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 조회 실패: 존재하지 않는 ID 입니다."));
+    }
 
-        return new ScheduleWithCommentsResponseDto(new ScheduleResponseDto(schedule), comments);
+    /**
+     * 작성자명 접두사 검색 (대소문자 구분 없음)
+     * - DB 조회 없이 작성자 검색 인덱스(트라이)에서 조회
+     *
+     * @param prefix 작성자명 접두사
+     * @param limit 최대 결과 수
+     * @return 작성자명 사전순(대소문자 무시) 작성자 목록
+     */
+    public List<AuthorResponseDto> searchAuthors(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "작성자 검색 실패: 검색어를 입력해주세요.");
+        }
+        if (limit < 1 || limit > MAX_AUTHOR_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "작성자 검색 실패: 결과 수는 1 이상 "+MAX_AUTHOR_LIMIT+" 이하로 입력해주세요.");
+        }
+        return authorIndex.search(prefix, limit);
     }
 
     /**
@@ -98,54 +294,202 @@ public class ScheduleService {
      * @param scheduleUpdateRequestDto 일정 수정 요청 데이터
      * @return 수정된 일정 정보 응답 DTO
      */
-    @Transactional
     public ScheduleResponseDto updateSchedule(Long id, ScheduleUpdateRequestDto scheduleUpdateRequestDto) {
+        return updateSchedule(id, scheduleUpdateRequestDto, null);
+    }
+
+    /**
+     * 특정 일정 수정 (버전 확인)
+     * - 저장된 비밀번호 해시를 읽어 트랜잭션 밖에서 검증한 뒤, 해시와 버전이 그대로일 때만 수정하는 조건부 UPDATE 한 번으로 반영
+     * - 작성자명을 바꾸는 경우 기대 버전이 없으면 조회한 버전으로 수정하여, 그 사이 다른 수정이 있으면 충돌로 처리
+     *   (작성자 검색 인덱스에 반영할 변경 전 작성자명이 실제 변경 전 값임을 보장)
+     * - 해시 도입 전 평문이거나 설정과 다른 비용의 해시면 같은 UPDATE에서 새 해시로 교체 (지연 마이그레이션)
+     * - 동시 요청의 마이그레이션으로 해시만 바뀌어 수정되지 않았으면 한 번 다시 시도
+     *
+     * @param id 일정 ID
+     * @param scheduleUpdateRequestDto 일정 수정 요청 데이터
+     * @param expectedVersion 기대하는 버전 (If-Match, null이면 버전 확인 안 함)
+     * @return 수정된 일정 정보 응답 DTO
+     */
+    public ScheduleResponseDto updateSchedule(Long id, ScheduleUpdateRequestDto scheduleUpdateRequestDto, Long expectedVersion) {
         validateScheduleUpdateRequest(scheduleUpdateRequestDto, "수정");
-        Schedule schedule = getScheduleOrThrow(id, "수정");
-        validatePassword(schedule, scheduleUpdateRequestDto.getPassword(), "수정");
+        String password = scheduleUpdateRequestDto.getPassword();
+        String name = scheduleUpdateRequestDto.getName();
 
-        if(scheduleUpdateRequestDto.getName()!=null){
-            schedule.updateName(scheduleUpdateRequestDto.getName());
-        }
-        if(scheduleUpdateRequestDto.getTitle()!=null){
-            schedule.updateTitle(scheduleUpdateRequestDto.getTitle());
-        }
+        for (int attempt = 0; ; attempt++) {
+            ScheduleCredentialDto credential = readCredential(id, "수정");
+            validatePassword(credential.getPassword(), password, "수정");
+            Long version = expectedVersion == null && name != null ? Long.valueOf(credential.getVersion()) : expectedVersion;
+            String upgradedHash = passwordHasher.needsUpgrade(credential.getPassword()) ? passwordHasher.hash(password) : null;
+
+            ScheduleResponseDto updated = transactionTemplate.execute(status -> {
+                if (scheduleStore.updateIfMatches(id, credential.getPassword(), version, name, scheduleUpdateRequestDto.getTitle(), upgradedHash) == 0) {
+                    return null;
+                }
+                ScheduleResponseDto schedule = scheduleStore.findResponseById(id)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 수정 실패: 존재하지 않는 ID 입니다."));
+                eventPublisher.publishEvent(new ScheduleChangedEvent(id, ScheduleChangeType.UPDATED, schedule.getName(), name != null ? credential.getName() : null));
+                return schedule;
+            });
+            if (updated != null) {
+                if (upgradedHash != null) {
+                    passwordHasher.markVerified(password, upgradedHash);
+                }
+                return updated;
+            }
 
-        scheduleRepository.flush(); // 반환 schedule에 modifiedAt 반영되도록 flush
-        return new ScheduleResponseDto(schedule);
+            ScheduleCredentialDto current = readCredential(id, "수정");
+            if (attempt > 0 || current.getPassword().equals(credential.getPassword())) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "일정 수정 실패: 다른 요청이 먼저 일정을 수정했습니다. 최신 일정을 조회한 뒤 다시 시도해주세요.");
+            }
+        }
     }
 
     /**
      * 특정 일정 및 관련 댓글 삭제
+     * - 비밀번호는 트랜잭션 밖에서 검증
+     * - hard 모드: 댓글을 DELETE 한 번으로 삭제한 뒤 일정 삭제
+     * - soft 모드: 삭제되지 않은 일정 한 행에 삭제일만 기록하는 조건부 UPDATE (수정일은 유지), 행/댓글 삭제는 SchedulePurger가 처리
+     *   (검증 후 다른 요청이 먼저 삭제하여 변경된 행이 없으면 404)
      *
      * @param id 일정 ID
      * @param scheduleDeleteRequestDto 일정 삭제 요청 데이터
      */
-    @Transactional
     public void deleteSchedule(Long id, ScheduleDeleteRequestDto scheduleDeleteRequestDto) {
-        Schedule schedule = getScheduleOrThrow(id, "삭제");
-        validatePassword(schedule, scheduleDeleteRequestDto.getPassword(), "삭제");
+        ScheduleCredentialDto credential = readCredential(id, "삭제");
+        validatePassword(credential.getPassword(), scheduleDeleteRequestDto.getPassword(), "삭제");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (deleteProperties.getMode() == ScheduleDeleteMode.SOFT) {
+                if (scheduleStore.markDeleted(id) == 0) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 삭제 실패: 존재하지 않는 ID 입니다.");
+                }
+            } else {
+                scheduleStore.delete(id);    // 일정 행을 먼저 잠가 지연 저장 중인 댓글과 순서를 맞춤
+                commentStore.deleteByScheduleId(id);
+            }
+            eventPublisher.publishEvent(new ScheduleChangedEvent(id, ScheduleChangeType.DELETED, null, credential.getName()));
+        });
+    }
+
+    /**
+     * 모아둔 일정을 한 번에 저장(JPA에서는 JDBC 배치 INSERT) 하고 결과 기록
+     */
+    private void flushScheduleChunk(List<Schedule> chunk, List<Integer> chunkIndexes, List<BatchItemResultDto<ScheduleResponseDto>> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ScheduleResponseDto> saved = scheduleStore.saveAll(chunk);
+        for (int i = 0; i < saved.size(); i++) {
+            ScheduleResponseDto schedule = saved.get(i);
+            results.set(chunkIndexes.get(i), BatchItemResultDto.success(chunkIndexes.get(i), schedule));
+            eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getId(), ScheduleChangeType.CREATED, schedule.getName(), null));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
+    /**
+     * 일정 목록에 댓글 목록을 붙여서 반환
+     * - 일정 ID 목록으로 댓글을 한 번에 조회한 뒤 메모리에서 일정별로 묶음
+     */
+    private List<ScheduleWithCommentsResponseDto> attachComments(List<ScheduleResponseDto> schedules, int commentLimit) {
+        Map<Long, List<CommentResponseDto>> commentsByScheduleId = new HashMap<>();
+        if (!schedules.isEmpty() && commentLimit > 0) {
+            List<Long> scheduleIds = schedules.stream().map(ScheduleResponseDto::getId).collect(Collectors.toList());
+            for (CommentResponseDto comment : commentStore.findResponsesByScheduleIdIn(scheduleIds)) { // 일정 안에서는 최신 수정일 기준 내림차순 정렬
+                List<CommentResponseDto> comments = commentsByScheduleId.computeIfAbsent(comment.getScheduleId(), key -> new ArrayList<>());
+                if (comments.size() < commentLimit) {
+                    comments.add(comment);
+                }
+            }
+        }
+        return schedules.stream()
+                .map(schedule -> new ScheduleWithCommentsResponseDto(schedule, commentsByScheduleId.getOrDefault(schedule.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
 
-        commentRepository.deleteByScheduleId(id);
-        scheduleRepository.delete(schedule);
+    /**
+     * 조회 결과를 페이지 응답으로 변환
+     * - size + 1 건을 조회한 경우 다음 페이지가 존재하므로 마지막 일정 기준으로 커서 생성
+     */
+    private SchedulePageResponseDto<ScheduleResponseDto> toPage(List<ScheduleResponseDto> schedules, int size, ScheduleDateField dateField) {
+        boolean hasNext = schedules.size() > size;
+        List<ScheduleResponseDto> page = hasNext ? schedules.subList(0, size) : schedules;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ScheduleResponseDto last = page.get(page.size() - 1);
+            nextCursor = new ScheduleCursor(dateField.valueOf(last), last.getId()).encode();
+        }
+        return new SchedulePageResponseDto<>(page, nextCursor);
     }
 
     /**
-     * 유효한 일정 ID 검증 및 일정 반환
+     * 페이지 크기 검증
+     * - 1 이상 최대 100 이하
+     * @throws ResponseStatusException 유효하지 않은 경우 400 반환
+     */
+    private void validatePageSize(int size, String action) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 페이지 크기는 1 이상 "+MAX_PAGE_SIZE+" 이하로 입력해주세요.");
+        }
+    }
+
+    /**
+     * 기간 조건 검증
+     * - from, to가 모두 있으면 from이 to보다 앞서야 함
+     * @throws ResponseStatusException 유효하지 않은 경우 400 반환
+     */
+    private void validatePeriod(ScheduleSearchCondition condition, String action) {
+        if (condition.getFrom() != null && condition.getTo() != null && !condition.getFrom().isBefore(condition.getTo())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: from은 to보다 이전이어야 합니다.");
+        }
+    }
+
+    /**
+     * 유효한 일정 ID 검증 및 작성자명/비밀번호/버전 반환
+     * - 복제 지연 없이 최신 값을 읽도록 쓰기 트랜잭션(primary)에서 조회
      * @throws ResponseStatusException 유효하지 않은 경우 404 반환
      */
-    private Schedule getScheduleOrThrow(Long id, String action){
-        return scheduleRepository.findById(id)
-                .orElseThrow(()-> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 "+action+" 실패: 존재하지 않는 ID 입니다."));
+    private ScheduleCredentialDto readCredential(Long id, String action){
+        return transactionTemplate.execute(status -> scheduleStore.findCredentialById(id)
+                .orElseThrow(()-> new ResponseStatusException(HttpStatus.NOT_FOUND, "일정 "+action+" 실패: 존재하지 않는 ID 입니다.")));
+    }
+
+    /**
+     * 목록 조회 시 일정당 포함할 댓글 수 검증
+     * - 0 이상 최대 10 이하
+     * @throws ResponseStatusException 유효하지 않은 경우 400 반환
+     */
+    private void validateCommentLimit(int commentLimit, String action) {
+        if (commentLimit < 0 || commentLimit > MAX_COMMENT_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 일정당 댓글 수는 0 이상 "+MAX_COMMENT_LIMIT+" 이하로 입력해주세요.");
+        }
+    }
+
+    /**
+     * 일괄 등록 요청 개수 검증
+     * - 1개 이상 최대 항목 수 이하
+     * @throws ResponseStatusException 유효하지 않은 경우 400 반환
+     */
+    private void validateBatchSize(List<ScheduleRequestDto> scheduleRequestDtos, String action) {
+        if (scheduleRequestDtos == null || scheduleRequestDtos.isEmpty() || scheduleRequestDtos.size() > maxBatchItems) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 한 번에 1개 이상 "+maxBatchItems+"개 이하로 등록할 수 있습니다.");
+        }
     }
 
     /**
      * 일정 생성 요청 데이터 검증
      * - 작성자명, 비밀번호, 제목, 내용 필수값 확인
      * - 작성자명: 최대 20자, 제목: 최대 30자, 내용: 최대 200자
+     * - 벤치마크에서 직접 호출할 수 있도록 package-private
      * @throws ResponseStatusException 유효하지 않은 경우 400 반환
      */
-    private void validateScheduleRequest(ScheduleRequestDto scheduleRequestDto, String action) {
+    void validateScheduleRequest(ScheduleRequestDto scheduleRequestDto, String action) {
+        if (scheduleRequestDto == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 요청 값이 없습니다.");
+        }
         if (scheduleRequestDto.getName() == null || scheduleRequestDto.getName().trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 작성자명을 입력해주세요.");
         }
@@ -173,9 +517,10 @@ public class ScheduleService {
      * 일정 수정 요청 데이터 검증
      * - 작성자명, 비밀번호, 제목 필수값 확인
      * - 작성자명: 최대 20자, 제목: 최대 30자
+     * - 벤치마크에서 직접 호출할 수 있도록 package-private
      * @throws ResponseStatusException 유효하지 않은 경우 400 반환
      */
-    private void validateScheduleUpdateRequest(ScheduleUpdateRequestDto scheduleUpdateRequestDto, String action) {
+    void validateScheduleUpdateRequest(ScheduleUpdateRequestDto scheduleUpdateRequestDto, String action) {
         if (scheduleUpdateRequestDto.getPassword() == null || scheduleUpdateRequestDto.getPassword().trim().isEmpty()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 "+action+" 실패: 비밀번호를 입력해주세요.");
         }
@@ -191,11 +536,11 @@ public class ScheduleService {
     }
 
     /**
-     * 비밀번호 일치 검증
-     * @throws ResponseStatusException 유효하지 않은 경우 401 반환
+     * 비밀번호 일치 검증 (해시 전용 스레드 풀에서 검증, 최근 검증에 성공한 조합이면 바로 통과)
+     * @throws ResponseStatusException 유효하지 않은 경우 401, 해시 대기열이 가득 찬 경우 503 반환
      */
-    private void validatePassword(Schedule schedule, String password, String action) {
-        if (!schedule.getPassword().equals(password)) {
+    private void validatePassword(String storedPassword, String password, String action) {
+        if (password == null || !passwordHasher.matches(password, storedPassword)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "일정 "+action+" 실패: 비밀번호가 일치하지 않습니다.");
         }
     }
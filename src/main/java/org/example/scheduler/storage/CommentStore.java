@@ -0,0 +1,50 @@
+package org.example.scheduler.storage;
+
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.entity.Comment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 댓글 저장소
+ * - 서비스가 사용하는 댓글 저장/조회 연산 정의
+ * - 기본은 JPA(MySQL) 구현, memory 프로필에서는 프로세스 내 자료구조 구현 사용
+ */
+public interface CommentStore {
+
+    /**
+     * 댓글 저장
+     *
+     * @param comment 저장할 댓글 (ID 없음)
+     * @return 저장된 댓글 응답 DTO
+     */
+    CommentResponseDto save(Comment comment);
+
+    /**
+     * 여러 댓글을 한 번에 저장
+     * - 일정과 댓글을 함께 구현하는 저장소에서 ScheduleStore.saveAll과 이름이 겹치지 않도록 구분
+     *
+     * @param comments 저장할 댓글 목록 (ID 없음, 일정 존재 여부는 호출자가 같은 트랜잭션에서 확인)
+     * @return 저장된 댓글 응답 DTO 목록 (입력 순서)
+     * @throws IllegalStateException 존재하지 않는 일정의 댓글이 포함된 경우 (memory 프로필)
+     */
+    List<CommentResponseDto> saveAllComments(List<Comment> comments);
+
+    /**
+     * 특정 일정의 댓글 조회 (최신 수정일 순)
+     */
+    List<CommentResponseDto> findResponsesByScheduleId(Long scheduleId);
+
+    /**
+     * 여러 일정의 댓글 조회 (일정 ID 순, 일정 안에서는 최신 수정일 순)
+     */
+    List<CommentResponseDto> findResponsesByScheduleIdIn(Collection<Long> scheduleIds);
+
+    /**
+     * 특정 일정의 댓글 삭제
+     *
+     * @return 삭제된 댓글 수
+     */
+    int deleteByScheduleId(Long scheduleId);
+}
@@ -0,0 +1,123 @@
+package org.example.scheduler.storage;
+
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleCredentialDto;
+import org.example.scheduler.dto.schedule.ScheduleCursor;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+import org.example.scheduler.dto.schedule.ScheduleVersionDto;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.repository.ScheduleQueryRepository.DailyCount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 일정 저장소
+ * - 서비스가 사용하는 일정 저장/조회 연산 정의
+ * - 기본은 JPA(MySQL) 구현, memory 프로필에서는 프로세스 내 자료구조 구현 사용
+ */
+public interface ScheduleStore {
+
+    /**
+     * 일정 저장
+     *
+     * @param schedule 저장할 일정 (ID 없음)
+     * @return 저장된 일정 응답 DTO
+     */
+    ScheduleResponseDto save(Schedule schedule);
+
+    /**
+     * 여러 일정을 한 번에 저장
+     *
+     * @param schedules 저장할 일정 목록 (ID 없음)
+     * @return 저장된 일정 응답 DTO 목록 (입력 순서)
+     */
+    List<ScheduleResponseDto> saveAll(List<Schedule> schedules);
+
+    /**
+     * 특정 일정 조회
+     */
+    Optional<ScheduleResponseDto> findResponseById(Long id);
+
+    /**
+     * 특정 일정의 버전 정보 조회 (조건부 요청 처리용)
+     */
+    Optional<ScheduleVersionDto> findVersionById(Long id);
+
+    /**
+     * 여러 일정 조회 (순서 보장 없음)
+     */
+    List<ScheduleResponseDto> findResponsesByIdIn(Collection<Long> ids);
+
+    /**
+     * 조건에 맞는 일정 페이지 조회 (기준 일시 내림차순 키셋 페이지네이션)
+     */
+    List<ScheduleResponseDto> findPage(ScheduleSearchCondition condition, ScheduleCursor after, int limit);
+
+    /**
+     * 조건에 맞는 일정 수를 기준 일시의 날짜별로 집계 (날짜 오름차순)
+     */
+    List<DailyCount> countByDay(ScheduleSearchCondition condition);
+
+    /**
+     * 작성자명별 일정 수 집계 (작성자 검색 인덱스 초기화용)
+     */
+    List<AuthorResponseDto> countByName();
+
+    /**
+     * 전체 일정을 ID 오름차순 스트림으로 조회 (내보내기용, 사용 후 close)
+     */
+    Stream<ScheduleResponseDto> streamAll();
+
+    /**
+     * 일정 존재 여부
+     */
+    boolean existsById(Long id);
+
+    /**
+     * 일정이 있으면 현재 트랜잭션이 끝날 때까지 삭제되지 않도록 잠금 (댓글 저장 전 확인용)
+     *
+     * @return 삭제되지 않은 일정이 있으면 true
+     */
+    boolean lockForComments(Long id);
+
+    /**
+     * 일정 작성자명/비밀번호(해시)/버전 조회 (수정/삭제 시 검증용)
+     */
+    Optional<ScheduleCredentialDto> findCredentialById(Long id);
+
+    /**
+     * 저장된 비밀번호와 버전이 그대로일 때만 일정 작성자명/제목 수정하고 버전 증가
+     *
+     * @param id 일정 ID
+     * @param password 검증에 사용한 저장된 비밀번호 (해시)
+     * @param expectedVersion 기대하는 버전 (null이면 버전 확인 안 함)
+     * @param name 수정할 작성자명 (null이면 유지)
+     * @param title 수정할 제목 (null이면 유지)
+     * @param newPassword 새로 저장할 비밀번호 해시 (null이면 유지, 지연 마이그레이션용)
+     * @return 변경된 일정 수 (일정이 없거나 비밀번호/버전이 다르면 0)
+     */
+    int updateIfMatches(Long id, String password, Long expectedVersion, String name, String title, String newPassword);
+
+    /**
+     * 일정 삭제 (댓글은 CommentStore에서 따로 삭제)
+     */
+    void delete(Long id);
+
+    /**
+     * 일정 소프트 삭제 (조회에서 바로 제외, 실제 삭제는 구현에 따라 나중에 처리)
+     *
+     * @return 삭제 표시한 일정 수 (일정이 없거나 이미 삭제되었으면 0)
+     */
+    int markDeleted(Long id);
+
+    /**
+     * 댓글 수 제한 안에서 일정의 댓글 수 증가 (댓글 자리 예약)
+     *
+     * @return 변경된 일정 수 (일정이 없거나 제한을 넘으면 0)
+     */
+    int incrementCommentCount(Long id, int count, int limit);
+}
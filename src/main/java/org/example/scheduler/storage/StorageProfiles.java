@@ -0,0 +1,12 @@
+package org.example.scheduler.storage;
+
+/**
+ * 저장소 구현 선택 프로필
+ */
+public final class StorageProfiles {
+    public static final String MEMORY = "memory";           // 프로세스 내 자료구조 저장소
+    public static final String NOT_MEMORY = "!" + MEMORY;   // JPA 저장소 (기본)
+
+    private StorageProfiles() {
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.scheduler.storage.jpa;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JPA 댓글 저장소 (CommentRepository 위임)
+ */
+@Component
+@Profile(StorageProfiles.NOT_MEMORY)
+@RequiredArgsConstructor
+public class JpaCommentStore implements CommentStore {
+    private final CommentRepository commentRepository;
+
+    @Override
+    public CommentResponseDto save(Comment comment) {
+        commentRepository.save(comment);
+        return new CommentResponseDto(comment);
+    }
+
+    @Override
+    public List<CommentResponseDto> saveAllComments(List<Comment> comments) {
+        commentRepository.saveAll(comments);
+        return comments.stream().map(CommentResponseDto::new).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CommentResponseDto> findResponsesByScheduleId(Long scheduleId) {
+        return commentRepository.findResponsesByScheduleId(scheduleId);
+    }
+
+    @Override
+    public List<CommentResponseDto> findResponsesByScheduleIdIn(Collection<Long> scheduleIds) {
+        return commentRepository.findResponsesByScheduleIdIn(scheduleIds);
+    }
+
+    @Override
+    public int deleteByScheduleId(Long scheduleId) {
+        return commentRepository.deleteByScheduleId(scheduleId);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.scheduler.storage.jpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleCredentialDto;
+import org.example.scheduler.dto.schedule.ScheduleCursor;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+import org.example.scheduler.dto.schedule.ScheduleVersionDto;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.repository.ScheduleQueryRepository.DailyCount;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.storage.ScheduleStore;
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JPA 일정 저장소 (ScheduleRepository 위임)
+ */
+@Component
+@Profile(StorageProfiles.NOT_MEMORY)
+@RequiredArgsConstructor
+public class JpaScheduleStore implements ScheduleStore {
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public ScheduleResponseDto save(Schedule schedule) {
+        scheduleRepository.save(schedule);
+        return new ScheduleResponseDto(schedule);
+    }
+
+    /**
+     * JDBC 배치로 INSERT 후 영속성 컨텍스트를 비워 메모리 사용량 유지
+     */
+    @Override
+    public List<ScheduleResponseDto> saveAll(List<Schedule> schedules) {
+        scheduleRepository.saveAll(schedules);
+        entityManager.flush();
+        List<ScheduleResponseDto> saved = schedules.stream().map(ScheduleResponseDto::new).collect(Collectors.toList());
+        entityManager.clear();
+        return saved;
+    }
+
+    @Override
+    public Optional<ScheduleResponseDto> findResponseById(Long id) {
+        return scheduleRepository.findResponseById(id);
+    }
+
+    @Override
+    public Optional<ScheduleVersionDto> findVersionById(Long id) {
+        return scheduleRepository.findVersionById(id);
+    }
+
+    @Override
+    public List<ScheduleResponseDto> findResponsesByIdIn(Collection<Long> ids) {
+        return scheduleRepository.findResponsesByIdIn(ids);
+    }
+
+    @Override
+    public List<ScheduleResponseDto> findPage(ScheduleSearchCondition condition, ScheduleCursor after, int limit) {
+        return scheduleRepository.findPage(condition, after, limit);
+    }
+
+    @Override
+    public List<DailyCount> countByDay(ScheduleSearchCondition condition) {
+        return scheduleRepository.countByDay(condition);
+    }
+
+    @Override
+    public List<AuthorResponseDto> countByName() {
+        return scheduleRepository.countByName();
+    }
+
+    @Override
+    public Stream<ScheduleResponseDto> streamAll() {
+        return scheduleRepository.streamAll();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return scheduleRepository.existsById(id);
+    }
+
+    @Override
+    public boolean lockForComments(Long id) {
+        return scheduleRepository.findForShareById(id).isPresent();
+    }
+
+    /**
+     * 엔티티로 조회하여 같은 트랜잭션의 수정/삭제가 추가 조회 없이 영속성 컨텍스트의 엔티티를 사용
+     */
+    @Override
+    public Optional<ScheduleCredentialDto> findCredentialById(Long id) {
+        return scheduleRepository.findById(id).map(schedule -> new ScheduleCredentialDto(schedule.getName(), schedule.getPassword(), schedule.getVersion()));
+    }
+
+    @Override
+    public int updateIfMatches(Long id, String password, Long expectedVersion, String name, String title, String newPassword) {
+        return scheduleRepository.updateIfMatches(id, password, expectedVersion, name, title, newPassword, LocalDateTime.now());
+    }
+
+    /**
+     * DELETE를 커밋 시점까지 미루지 않고 바로 실행하여 일정 행 잠금을 먼저 얻음
+     * - 댓글 지연 저장의 공유 잠금(lockForComments)과 같은 순서로 잠가, 삭제 중인 일정에 댓글이 저장되지 않도록 함
+     */
+    @Override
+    public void delete(Long id) {
+        scheduleRepository.findById(id).ifPresent(schedule -> {
+            scheduleRepository.delete(schedule);
+            scheduleRepository.flush();
+        });
+    }
+
+    @Override
+    public int markDeleted(Long id) {
+        return scheduleRepository.markDeleted(id, LocalDateTime.now());
+    }
+
+    @Override
+    public int incrementCommentCount(Long id, int count, int limit) {
+        return scheduleRepository.incrementCommentCount(id, count, limit);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.scheduler.storage.jpa;
+
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * JPA 저장소 설정
+ * - 작성일/수정일 자동 관리(JPA Auditing)는 JPA 저장소를 사용할 때만 활성화
+ */
+@Configuration
+@Profile(StorageProfiles.NOT_MEMORY)
+@EnableJpaAuditing
+public class JpaStorageConfig {
+}
@@ -0,0 +1,454 @@
+package org.example.scheduler.storage.memory;
+
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleCredentialDto;
+import org.example.scheduler.dto.schedule.ScheduleCursor;
+import org.example.scheduler.dto.schedule.ScheduleDateField;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleSearchCondition;
+import org.example.scheduler.dto.schedule.ScheduleVersionDto;
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.repository.ScheduleQueryRepository.DailyCount;
+import org.example.scheduler.storage.CommentStore;
+import org.example.scheduler.storage.ScheduleStore;
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 프로세스 내 자료구조 저장소 (memory 프로필)
+ * - MySQL 없이 실행하는 엣지 배포/통합 테스트용, 재시작하면 데이터가 사라짐
+ * - 일정 ID 기본 맵 + 작성자명 보조 인덱스 + 수정일/작성일 순 스킵 리스트 인덱스 + 일정별 댓글 목록
+ * - 일정/댓글 값은 불변 객체로 교체하므로 조회는 잠금 없이 처리하고, 쓰기는 일정 ID 기준 잠금 스트라이프로 직렬화
+ * - 인덱스는 새 키를 먼저 넣고 이전 키를 지우므로 조회 중에 잠시 이전 키가 보일 수 있어, 기본 맵의 현재 값과 다른 키는 건너뜀
+ * - 트랜잭션 롤백은 지원하지 않음 (쓰기는 호출 즉시 반영)
+ */
+@Component
+@Profile(StorageProfiles.MEMORY)
+public class InMemoryStorage implements ScheduleStore, CommentStore {
+    private static final int STRIPE_COUNT = 64;
+    private static final Comparator<IndexKey> NEWEST_FIRST = Comparator.comparing(IndexKey::timestamp)
+            .thenComparing(IndexKey::id)
+            .reversed();
+
+    private final Map<Long, ScheduleEntry> schedules = new ConcurrentHashMap<>();                       // 일정 ID → 일정
+    private final Map<String, NavigableSet<IndexKey>> byName = new ConcurrentHashMap<>();               // 작성자명 → (수정일, ID) 내림차순
+    private final NavigableSet<IndexKey> byModifiedAt = new ConcurrentSkipListSet<>(NEWEST_FIRST);     // (수정일, ID) 내림차순
+    private final NavigableSet<IndexKey> byCreatedAt = new ConcurrentSkipListSet<>(NEWEST_FIRST);      // (작성일, ID) 내림차순
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+    private final AtomicLong scheduleIdSequence = new AtomicLong();
+    private final AtomicLong commentIdSequence = new AtomicLong();
+
+    public InMemoryStorage() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // ---- 일정 ----
+
+    @Override
+    public ScheduleResponseDto save(Schedule schedule) {
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleRecord record = new ScheduleRecord(scheduleIdSequence.incrementAndGet(), schedule.getName(), schedule.getPassword(),
+                schedule.getTitle(), schedule.getContent(), 0, 0, now, now);
+        ReentrantLock lock = lockFor(record.id());
+        lock.lock();
+        try {
+            schedules.put(record.id(), new ScheduleEntry(record));
+            index(record);
+        } finally {
+            lock.unlock();
+        }
+        return record.toResponse();
+    }
+
+    @Override
+    public List<ScheduleResponseDto> saveAll(List<Schedule> schedules) {
+        return schedules.stream().map(this::save).collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<ScheduleResponseDto> findResponseById(Long id) {
+        return Optional.ofNullable(schedules.get(id)).map(entry -> entry.record.toResponse());
+    }
+
+    @Override
+    public Optional<ScheduleVersionDto> findVersionById(Long id) {
+        return Optional.ofNullable(schedules.get(id)).map(entry -> {
+            ScheduleRecord record = entry.record;
+            LocalDateTime lastCommentAt = entry.comments.stream()
+                    .map(CommentRecord::modifiedAt)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            return new ScheduleVersionDto(record.id(), record.version(), record.modifiedAt(), record.commentCount(), lastCommentAt);
+        });
+    }
+
+    @Override
+    public List<ScheduleResponseDto> findResponsesByIdIn(Collection<Long> ids) {
+        return ids.stream()
+                .map(schedules::get)
+                .filter(Objects::nonNull)
+                .map(entry -> entry.record.toResponse())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ScheduleResponseDto> findPage(ScheduleSearchCondition condition, ScheduleCursor after, int limit) {
+        List<ScheduleResponseDto> page = new ArrayList<>(limit);
+        for (IndexKey key : startFrom(condition, after)) {
+            if (condition.getFrom() != null && key.timestamp().isBefore(condition.getFrom())) {
+                break;
+            }
+            ScheduleRecord record = currentRecord(key, condition);
+            if (record != null) {
+                page.add(record.toResponse());
+                if (page.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public List<DailyCount> countByDay(ScheduleSearchCondition condition) {
+        TreeMap<LocalDate, Long> counts = new TreeMap<>();
+        for (IndexKey key : startFrom(condition, null)) {
+            if (condition.getFrom() != null && key.timestamp().isBefore(condition.getFrom())) {
+                break;
+            }
+            if (currentRecord(key, condition) != null) {
+                counts.merge(key.timestamp().toLocalDate(), 1L, Long::sum);
+            }
+        }
+        return counts.entrySet().stream()
+                .map(entry -> new DailyCount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<AuthorResponseDto> countByName() {
+        return schedules.values().stream()
+                .collect(Collectors.groupingBy(entry -> entry.record.name(), TreeMap::new, Collectors.counting()))
+                .entrySet().stream()
+                .map(entry -> new AuthorResponseDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<ScheduleResponseDto> streamAll() {
+        return schedules.values().stream()
+                .map(entry -> entry.record)
+                .sorted(Comparator.comparing(ScheduleRecord::id))
+                .map(ScheduleRecord::toResponse);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return schedules.containsKey(id);
+    }
+
+    /**
+     * 트랜잭션이 없으므로 존재 여부만 확인 (saveAllComments가 일정 잠금 안에서 다시 확인)
+     */
+    @Override
+    public boolean lockForComments(Long id) {
+        return existsById(id);
+    }
+
+    @Override
+    public Optional<ScheduleCredentialDto> findCredentialById(Long id) {
+        return Optional.ofNullable(schedules.get(id)).map(entry -> new ScheduleCredentialDto(entry.record.name(), entry.record.password(), entry.record.version()));
+    }
+
+    /**
+     * 일정 잠금 안에서 비밀번호/버전 확인 후 교체
+     */
+    @Override
+    public int updateIfMatches(Long id, String password, Long expectedVersion, String name, String title, String newPassword) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            ScheduleEntry entry = schedules.get(id);
+            if (entry == null || !entry.record.password().equals(password)
+                    || (expectedVersion != null && entry.record.version() != expectedVersion)) {
+                return 0;
+            }
+            ScheduleRecord previous = entry.record;
+            ScheduleRecord updated = new ScheduleRecord(id, name != null ? name : previous.name(), newPassword != null ? newPassword : previous.password(),
+                    title != null ? title : previous.title(), previous.content(), previous.commentCount(),
+                    previous.version() + 1, previous.createdAt(), LocalDateTime.now());
+            entry.record = updated;
+            index(updated);
+            if (!previous.modifiedAt().equals(updated.modifiedAt()) || !previous.name().equals(updated.name())) {
+                unindexModified(previous);
+            }
+            return 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        remove(id);
+    }
+
+    /**
+     * 별도 정리 작업 없이 댓글과 함께 바로 삭제
+     */
+    @Override
+    public int markDeleted(Long id) {
+        return remove(id) ? 1 : 0;
+    }
+
+    @Override
+    public int incrementCommentCount(Long id, int count, int limit) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            ScheduleEntry entry = schedules.get(id);
+            if (entry == null || entry.record.commentCount() + count > limit) {
+                return 0;
+            }
+            entry.record = entry.record.withCommentCount(entry.record.commentCount() + count);
+            return 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---- 댓글 ----
+
+    @Override
+    public CommentResponseDto save(Comment comment) {
+        return saveAllComments(List.of(comment)).get(0);
+    }
+
+    /**
+     * 같은 일정의 댓글이면 목록을 한 번만 교체
+     * - 존재하지 않는 일정의 댓글이 있으면 하나도 저장하지 않고 예외 (응답만 반환하고 댓글이 사라지지 않도록)
+     * - 확인 후 저장 전에 일정이 삭제되면 그 일정 앞까지만 저장됨 (롤백 미지원)
+     */
+    @Override
+    public List<CommentResponseDto> saveAllComments(List<Comment> comments) {
+        for (Comment comment : comments) {
+            if (!schedules.containsKey(comment.getScheduleId())) {
+                throw missingSchedule(comment.getScheduleId());
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<CommentResponseDto> saved = new ArrayList<>(comments.size());
+        Map<Long, List<CommentRecord>> recordsByScheduleId = new TreeMap<>();
+        for (Comment comment : comments) {
+            CommentRecord record = new CommentRecord(commentIdSequence.incrementAndGet(), comment.getName(), comment.getPassword(),
+                    comment.getContent(), comment.getScheduleId(), now, now);
+            recordsByScheduleId.computeIfAbsent(record.scheduleId(), key -> new ArrayList<>()).add(record);
+            saved.add(record.toResponse());
+        }
+        recordsByScheduleId.forEach((scheduleId, records) -> {
+            ReentrantLock lock = lockFor(scheduleId);
+            lock.lock();
+            try {
+                ScheduleEntry entry = schedules.get(scheduleId);
+                if (entry == null) {
+                    throw missingSchedule(scheduleId);
+                }
+                List<CommentRecord> updated = new ArrayList<>(entry.comments.size() + records.size());
+                for (int i = records.size() - 1; i >= 0; i--) { // 최신 수정일 순 (같으면 ID 내림차순)
+                    updated.add(records.get(i));
+                }
+                updated.addAll(entry.comments);
+                entry.comments = List.copyOf(updated);
+            } finally {
+                lock.unlock();
+            }
+        });
+        return saved;
+    }
+
+    @Override
+    public List<CommentResponseDto> findResponsesByScheduleId(Long scheduleId) {
+        ScheduleEntry entry = schedules.get(scheduleId);
+        if (entry == null) {
+            return List.of();
+        }
+        return entry.comments.stream().map(CommentRecord::toResponse).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CommentResponseDto> findResponsesByScheduleIdIn(Collection<Long> scheduleIds) {
+        return new TreeSet<>(scheduleIds).stream()
+                .flatMap(scheduleId -> findResponsesByScheduleId(scheduleId).stream())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int deleteByScheduleId(Long scheduleId) {
+        ReentrantLock lock = lockFor(scheduleId);
+        lock.lock();
+        try {
+            ScheduleEntry entry = schedules.get(scheduleId);
+            if (entry == null) {
+                return 0;
+            }
+            int deleted = entry.comments.size();
+            entry.comments = List.of();
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---- 인덱스 ----
+
+    /**
+     * 조건에 맞는 인덱스에서 커서 또는 기간 끝 이후부터 순회
+     * - 작성자명 + 수정일 기준이면 작성자명 인덱스, 그 외에는 기준 일시 인덱스를 사용하고 작성자명은 순회 중 확인
+     */
+    private NavigableSet<IndexKey> startFrom(ScheduleSearchCondition condition, ScheduleCursor after) {
+        NavigableSet<IndexKey> index;
+        if (condition.getDateField() == ScheduleDateField.CREATED_AT) {
+            index = byCreatedAt;
+        } else if (condition.getName() != null) {
+            index = byName.getOrDefault(condition.getName(), new TreeSet<>(NEWEST_FIRST));
+        } else {
+            index = byModifiedAt;
+        }
+        if (after != null) {
+            return index.tailSet(new IndexKey(after.getTimestamp(), after.getId()), false);
+        }
+        if (condition.getTo() != null) {
+            return index.tailSet(new IndexKey(condition.getTo(), Long.MIN_VALUE), false);
+        }
+        return index;
+    }
+
+    /**
+     * 인덱스 키가 가리키는 현재 일정 (삭제되었거나 이전 키, 조건 불일치면 null)
+     */
+    private ScheduleRecord currentRecord(IndexKey key, ScheduleSearchCondition condition) {
+        ScheduleEntry entry = schedules.get(key.id());
+        if (entry == null) {
+            return null;
+        }
+        ScheduleRecord record = entry.record;
+        LocalDateTime timestamp = condition.getDateField() == ScheduleDateField.CREATED_AT ? record.createdAt() : record.modifiedAt();
+        if (!timestamp.equals(key.timestamp())) {
+            return null;
+        }
+        if (condition.getName() != null && !condition.getName().equals(record.name())) {
+            return null;
+        }
+        if (condition.getTo() != null && !timestamp.isBefore(condition.getTo())) {
+            return null;
+        }
+        return record;
+    }
+
+    private void index(ScheduleRecord record) {
+        IndexKey modifiedKey = new IndexKey(record.modifiedAt(), record.id());
+        byModifiedAt.add(modifiedKey);
+        byName.computeIfAbsent(record.name(), key -> new ConcurrentSkipListSet<>(NEWEST_FIRST)).add(modifiedKey);
+        byCreatedAt.add(new IndexKey(record.createdAt(), record.id()));
+    }
+
+    private void unindexModified(ScheduleRecord record) {
+        IndexKey modifiedKey = new IndexKey(record.modifiedAt(), record.id());
+        ScheduleEntry current = schedules.get(record.id());
+        if (current == null || !current.record.modifiedAt().equals(record.modifiedAt())) { // 수정일이 같으면 새 키와 같으므로 유지
+            byModifiedAt.remove(modifiedKey);
+        }
+        NavigableSet<IndexKey> nameIndex = byName.get(record.name());
+        if (nameIndex != null) {
+            nameIndex.remove(modifiedKey);
+        }
+    }
+
+    /**
+     * 일정과 인덱스 키 제거
+     *
+     * @return 제거한 일정이 있으면 true
+     */
+    private boolean remove(Long id) {
+        ReentrantLock lock = lockFor(id);
+        lock.lock();
+        try {
+            ScheduleEntry entry = schedules.remove(id);
+            if (entry == null) {
+                return false;
+            }
+            unindexModified(entry.record);
+            byCreatedAt.remove(new IndexKey(entry.record.createdAt(), id));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static IllegalStateException missingSchedule(Long scheduleId) {
+        return new IllegalStateException("존재하지 않는 일정의 댓글은 저장할 수 없습니다: scheduleId=" + scheduleId);
+    }
+
+    private ReentrantLock lockFor(Long id) {
+        return stripes[(int) (Math.floorMod(id, (long) STRIPE_COUNT))];
+    }
+
+    /**
+     * 일정과 댓글 목록 (잠금 안에서만 교체, 조회는 volatile 읽기)
+     */
+    private static class ScheduleEntry {
+        private volatile ScheduleRecord record;
+        private volatile List<CommentRecord> comments = List.of();  // 최신 수정일 순
+
+        private ScheduleEntry(ScheduleRecord record) {
+            this.record = record;
+        }
+    }
+
+    private record IndexKey(LocalDateTime timestamp, long id) {
+    }
+
+    private record ScheduleRecord(long id, String name, String password, String title, String content,
+                                  int commentCount, long version, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+
+        ScheduleRecord withCommentCount(int commentCount) {
+            return new ScheduleRecord(id, name, password, title, content, commentCount, version, createdAt, modifiedAt);
+        }
+
+        ScheduleResponseDto toResponse() {
+            return new ScheduleResponseDto(id, name, title, content, commentCount, version, createdAt, modifiedAt);
+        }
+    }
+
+    private record CommentRecord(long id, String name, String password, String content, Long scheduleId,
+                                 LocalDateTime createdAt, LocalDateTime modifiedAt) {
+
+        CommentResponseDto toResponse() {
+            return new CommentResponseDto(id, name, content, scheduleId, createdAt, modifiedAt);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.scheduler.storage.memory;
+
+import org.example.scheduler.storage.StorageProfiles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * memory 프로필 설정
+ * - DB 트랜잭션이 없으므로 @Transactional 경계와 커밋 이후 이벤트(@TransactionalEventListener)만 동작하는 트랜잭션 매니저 등록
+ */
+@Configuration
+@Profile(StorageProfiles.MEMORY)
+public class InMemoryStorageConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return TransactionSynchronizationManager.isActualTransactionActive(); // 바깥 트랜잭션이 있으면 참여
+            }
+
+            @Override
+            protected boolean isExistingTransaction(Object transaction) {
+                return (Boolean) transaction;
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.scheduler.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * 요청을 보낸 클라이언트 식별
+ * - 인증된 사용자가 있으면 사용자 이름, 없으면 원격 주소 사용
+ * - 클라이언트가 임의로 바꿀 수 있는 헤더 값은 신뢰하지 않음
+ * - 프록시 뒤에서는 server.forward-headers-strategy=native로 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가
+ *   보낸 X-Forwarded-For만 원격 주소에 반영되고, 그 밖의 연결이 보낸 X-Forwarded-For는 무시됨
+ */
+public final class ClientIdResolver {
+
+    private ClientIdResolver() {
+    }
+
+    /**
+     * 클라이언트 식별자 조회
+     *
+     * @param request HTTP 요청
+     * @return 클라이언트 식별자 ("user:" + 사용자 이름 또는 "addr:" + 원격 주소)
+     */
+    public static String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && principal.getName() != null) {
+            return "user:" + principal.getName();
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.scheduler.web;
+
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleVersionDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 응답의 강한(strong) ETag 생성
+ * - 응답 본문을 직렬화하지 않고 버전 정보(ID, 수정 버전, 댓글 수 등)만으로 계산
+ * - 일정 상세 ETag는 조회(GET)와 수정(PATCH) 응답, 수정 요청의 If-Match 비교에 같은 형식("{수정 버전}-{댓글 상태 해시}")으로 사용
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * 일정 상세 응답 ETag
+     * - 일정 수정 버전으로 시작하고, 댓글 수/마지막 댓글 수정일이 바뀌어도 달라짐
+     *
+     * @param version 일정 버전 정보
+     * @return ETag (큰따옴표 포함)
+     */
+    public static String of(ScheduleVersionDto version) {
+        String comments = version.getId() + ":" + version.getModifiedAt() + ":" + version.getCommentCount() + ":" + version.getLastCommentAt();
+        return "\"" + version.getVersion() + "-" + md5(comments) + "\"";
+    }
+
+    /**
+     * 일정 목록 페이지 응답 ETag
+     * - 페이지에 포함된 일정 구성이나 각 일정의 수정일/댓글 수가 바뀌면 달라짐
+     *
+     * @param page 일정 페이지 응답 DTO
+     * @return ETag (큰따옴표 포함)
+     */
+    public static String of(SchedulePageResponseDto<ScheduleResponseDto> page) {
+        StringBuilder version = new StringBuilder();
+        for (ScheduleResponseDto schedule : page.getSchedules()) {
+            version.append(schedule.getId()).append(':')
+                    .append(schedule.getModifiedAt()).append(':')
+                    .append(schedule.getCommentCount()).append(';');
+        }
+        version.append(page.getNextCursor());
+        return "\"" + md5(version.toString()) + "\"";
+    }
+
+    /**
+     * If-Match 헤더 파싱
+     * - 쉼표로 구분된 여러 ETag 허용, * 는 그대로 반환
+     * - 약한(W/) ETag는 강한 비교에 쓸 수 없으므로 412 반환
+     *
+     * @param ifMatch If-Match 헤더 값
+     * @return ETag 목록 (큰따옴표 포함), 헤더가 없으면 null
+     * @throws ResponseStatusException 약한 ETag면 412, 큰따옴표로 감싸지 않은 값이면 400 반환
+     */
+    public static List<String> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<String> tags = new ArrayList<>();
+        for (String part : ifMatch.split(",")) {
+            String tag = part.trim();
+            if (tag.isEmpty()) {
+                continue;
+            }
+            if (tag.startsWith("W/")) {
+                throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "일정 수정 실패: If-Match에는 약한(W/) ETag를 사용할 수 없습니다.");
+            }
+            if (!tag.equals("*") && (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\""))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "일정 수정 실패: If-Match는 일정 조회 응답의 ETag여야 합니다.");
+            }
+            tags.add(tag);
+        }
+        return tags.isEmpty() ? null : tags;
+    }
+
+    /**
+     * If-Match의 ETag 중 현재 일정 상세 ETag와 강한 비교로 일치하는 것이 있는지 확인
+     *
+     * @param ifMatch parseIfMatch 결과
+     * @param current 현재 일정 버전 정보
+     * @return 일치하면 true (* 포함)
+     */
+    public static boolean matches(List<String> ifMatch, ScheduleVersionDto current) {
+        return ifMatch.contains("*") || ifMatch.contains(of(current));
+    }
+
+    private static String md5(String version) {
+        return DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8));
+    }
+}
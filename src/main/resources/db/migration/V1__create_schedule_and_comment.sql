@@ -0,0 +1,24 @@
+-- 일정/댓글 테이블 (Flyway 도입 전 ddl-auto: update로 만들어지던 최초 스키마)
+-- 이미 이 스키마로 운영 중인 DB는 baseline-on-migrate로 V1을 적용한 것으로 기록하고 V2부터 적용
+
+create table schedule (
+    id          bigint       not null auto_increment,
+    name        varchar(20)  not null comment '작성자명',
+    password    varchar(50)  not null comment '비밀번호',
+    title       varchar(30)  not null comment '제목',
+    content     varchar(200) not null comment '내용',
+    created_at  datetime(6)  comment '작성일',
+    modified_at datetime(6)  comment '수정일',
+    primary key (id)
+) engine = InnoDB;
+
+create table comment (
+    id          bigint       not null auto_increment,
+    name        varchar(20)  not null comment '작성자명',
+    password    varchar(50)  not null comment '비밀번호',
+    content     varchar(100) not null comment '내용',
+    schedule_id bigint       not null comment '일정 ID',
+    created_at  datetime(6)  comment '작성일',
+    modified_at datetime(6)  comment '수정일',
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,6 @@
+-- 일정별 댓글 수 컬럼 (댓글 등록 시 조건부 UPDATE로 증가)
+-- 기존 일정은 등록된 댓글 수로 채움
+
+alter table schedule add column comment_count integer not null default 0 comment '댓글 수';
+
+update schedule s set comment_count = (select count(*) from comment c where c.schedule_id = s.id);
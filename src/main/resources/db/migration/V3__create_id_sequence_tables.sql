@@ -0,0 +1,15 @@
+-- INSERT 배치를 위한 ID 시퀀스 테이블 (@SequenceGenerator allocationSize = 50)
+-- pooled 최적화는 읽은 값 - 49부터 ID를 할당하므로, 기존 최대 ID + 50으로 시작해야 기존 행과 겹치지 않음
+-- 기존 auto_increment 속성은 남아 있어도 Hibernate가 ID를 직접 지정하므로 사용되지 않음
+
+create table schedule_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into schedule_seq select coalesce(max(id), 0) + 50 from schedule;
+
+create table comment_seq (
+    next_val bigint
+) engine = InnoDB;
+
+insert into comment_seq select coalesce(max(id), 0) + 50 from comment;
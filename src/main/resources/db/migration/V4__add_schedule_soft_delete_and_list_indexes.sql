@@ -0,0 +1,9 @@
+-- 소프트 삭제 시각 컬럼과 목록/기간 조회, 일정별 댓글 조회 인덱스
+-- 목록 키셋 페이지네이션은 (삭제일, 수정일, ID), 작성일 기준 기간 조회는 (삭제일, 작성일, ID) 인덱스 범위만 스캔
+
+alter table schedule add column deleted_at datetime(6) comment '소프트 삭제 시각';
+
+create index idx_schedule_deleted_at_modified_at_id on schedule (deleted_at, modified_at, id);
+create index idx_schedule_deleted_at_created_at_id on schedule (deleted_at, created_at, id);
+
+create index idx_comment_schedule_id on comment (schedule_id);
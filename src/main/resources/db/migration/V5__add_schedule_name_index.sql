@@ -0,0 +1,3 @@
+-- 작성자명 일치 + 수정일 순 페이지를 인덱스 범위로 조회하기 위한 복합 인덱스
+
+create index idx_schedule_deleted_at_name_modified_at_id on schedule (deleted_at, name, modified_at, id);
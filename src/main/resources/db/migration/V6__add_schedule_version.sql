@@ -0,0 +1,4 @@
+-- 작성자명/제목 수정마다 증가하는 버전 (조건부 UPDATE, If-Match)
+-- 기존 일정은 0부터 시작
+
+alter table schedule add column version bigint not null default 0 comment '수정 버전';
@@ -0,0 +1,5 @@
+-- 비밀번호 해시({알고리즘}해시) 저장을 위해 비밀번호 컬럼 길이 확장
+-- 해시 도입 전 평문 비밀번호는 그대로 두고 수정 시/기동 후 마이그레이션 작업이 해시로 교체
+
+alter table schedule modify password varchar(255) not null comment '비밀번호 해시 ({알고리즘}해시, 해시 도입 전 데이터는 평문)';
+alter table comment modify password varchar(255) not null comment '비밀번호 해시 ({알고리즘}해시, 해시 도입 전 데이터는 평문)';
@@ -0,0 +1,57 @@
+package org.example.scheduler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.service.ScheduleService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션과 엔티티 매핑이 일치하는지 검증
+ * - H2(MySQL 모드)에 db/migration의 모든 버전을 적용한 뒤 ddl-auto: validate로 컨텍스트를 띄움
+ *   (엔티티에 컬럼/테이블을 추가하고 마이그레이션 SQL을 빠뜨리면 컨텍스트 기동 실패)
+ * - 운영과 같은 MySQL 방언으로 시퀀스 테이블(schedule_seq, comment_seq)까지 확인
+ * - 최초 스키마(V1)부터 마지막 버전까지 차례로 적용하므로 기존 DB가 밟는 경로와 같음
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true" // 검증 시 H2의 식별자 대소문자 규칙을 메타데이터로 확인
+})
+class FlywayMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void migrationsMatchEntityMappings() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("7");
+
+        ScheduleRequestDto request = objectMapper.convertValue(Map.of(
+                "name", "작성자",
+                "password", "password",
+                "title", "제목",
+                "content", "내용"), ScheduleRequestDto.class);
+        ScheduleResponseDto saved = scheduleService.saveSchedule(request);
+
+        assertThat(scheduleService.getScheduleWithCommentsById(saved.getId()).getSchedule().getTitle()).isEqualTo("제목");
+    }
+}
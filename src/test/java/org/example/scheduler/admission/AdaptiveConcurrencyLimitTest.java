@@ -0,0 +1,71 @@
+package org.example.scheduler.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveConcurrencyLimit 테스트
+ * - 반영 비율(smoothing) 1로 두어 응답 시간 변화가 한도에 바로 반영되도록 함
+ */
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void rejectsOverLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 1.0);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        limit.release(FAST);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyIsStableAndLimitIsUsed() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 1.5, 1.0);
+
+        for (int round = 0; round < 3; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(FAST);
+            }
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shrinksWhenRecentLatencyExceedsTolerance() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5, 1.0);
+        limit.tryAcquire();
+        limit.release(FAST); // 평소 응답 시간 기준
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(20).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void doesNotGrowWhenMostOfLimitIsUnused() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 5, 100, 1.5, 1.0);
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(FAST);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+}
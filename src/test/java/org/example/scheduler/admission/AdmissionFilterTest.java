@@ -0,0 +1,97 @@
+package org.example.scheduler.admission;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdmissionFilter 테스트
+ * - 클라이언트별 허용량 초과 시 429, 동시 처리 한도 초과 시 503과 Retry-After 응답
+ * - 버킷은 ClientIdResolver 기준(인증 사용자, 없으면 원격 주소)이며 X-Client-Id를 바꿔도 새 버킷을 받지 않음
+ */
+class AdmissionFilterTest {
+    private static final FilterChain OK = (request, response) -> ((HttpServletResponse) response).setStatus(HttpStatus.OK.value());
+
+    @Test
+    void rateLimitedClientGets429WithRetryAfter() throws Exception {
+        AdmissionFilter filter = filter(1, 1, 50);
+
+        assertThat(perform(filter, "10.0.0.1", null, OK).getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse limited = perform(filter, "10.0.0.1", null, OK);
+
+        assertThat(limited.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    @Test
+    void clientIdHeaderDoesNotGrantNewBucket() throws Exception {
+        AdmissionFilter filter = filter(1, 1, 50);
+
+        perform(filter, "10.0.0.1", "client-a", OK);
+
+        assertThat(perform(filter, "10.0.0.1", "client-b", OK).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(perform(filter, "10.0.0.2", "client-b", OK).getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void authenticatedUserHasOwnBucket() throws Exception {
+        AdmissionFilter filter = filter(1, 1, 50);
+
+        perform(filter, "10.0.0.1", null, OK);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules/1");
+        request.setRemoteAddr("10.0.0.1");
+        request.setUserPrincipal(() -> "user-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, OK);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void requestOverConcurrencyLimitGets503WithRetryAfter() throws Exception {
+        AdmissionFilter filter = filter(100, 100, 1);
+        AtomicReference<MockHttpServletResponse> nested = new AtomicReference<>();
+        FilterChain holdsSlot = (request, response) -> { // 처리 중인 동안 다른 요청이 들어옴
+            nested.set(perform(filter, "10.0.0.2", null, OK));
+            ((HttpServletResponse) response).setStatus(HttpStatus.OK.value());
+        };
+
+        MockHttpServletResponse first = perform(filter, "10.0.0.1", null, holdsSlot);
+
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(nested.get().getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(nested.get().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    private static AdmissionFilter filter(double bucketCapacity, double refillPerSecond, int concurrencyLimit) {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setEnabled(true);
+        properties.setBucketCapacity(bucketCapacity);
+        properties.setRefillPerSecond(refillPerSecond);
+        properties.setInitialLimit(concurrencyLimit);
+        properties.setMinLimit(concurrencyLimit);
+        properties.setMaxLimit(concurrencyLimit);
+        return new AdmissionFilter(new AdmissionControl(properties));
+    }
+
+    private static MockHttpServletResponse perform(AdmissionFilter filter, String remoteAddr, String clientId, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/schedules/1");
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null) {
+            request.addHeader("X-Client-Id", clientId);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
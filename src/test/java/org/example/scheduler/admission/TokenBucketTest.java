@@ -0,0 +1,45 @@
+package org.example.scheduler.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TokenBucket 테스트 (현재 시각을 직접 넘겨 충전량을 결정적으로 검증)
+ */
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void rejectsWhenEmptyAndReturnsTimeUntilRefill() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        assertThat(bucket.tryConsume(1, 0)).isZero();
+        assertThat(bucket.tryConsume(1, 0)).isZero();
+        assertThat(bucket.tryConsume(1, 0)).isCloseTo(SECOND, within(10L));
+        assertThat(bucket.tryConsume(1, SECOND / 2)).isCloseTo(SECOND / 2, within(10L));
+        assertThat(bucket.tryConsume(1, SECOND + 1000)).isZero();
+    }
+
+    @Test
+    void refillsAtRateUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(2, 0);
+
+        long later = 100 * SECOND;
+        assertThat(bucket.tryConsume(2, later)).isZero();
+        assertThat(bucket.tryConsume(1, later)).isPositive();
+    }
+
+    @Test
+    void expensiveRequestWaitsForItsFullCost() {
+        TokenBucket bucket = new TokenBucket(5, 1, 0);
+        bucket.tryConsume(1, 0);
+
+        assertThat(bucket.tryConsume(5, 0)).isCloseTo(SECOND, within(10L));
+        assertThat(bucket.tryConsume(1, 0)).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.scheduler.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.schedule.SchedulePageResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정 JSON 캐시의 조각 재사용, 무효화, 바이트 한도 제거, 목록 응답 형식 검증
+ */
+class ScheduleJsonCacheTest {
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void reusesFragmentForUnchangedSchedule() throws IOException {
+        ScheduleJsonCache cache = cache(DataSize.ofMegabytes(1));
+
+        byte[] first = cache.get(schedule(1L, MODIFIED_AT, 0));
+        byte[] second = cache.get(schedule(1L, MODIFIED_AT, 0));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(schedule(1L, MODIFIED_AT, 0)));
+        assertThat(cache.getStats().getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reserializesWhenModifiedAtOrCommentCountChanges() throws IOException {
+        ScheduleJsonCache cache = cache(DataSize.ofMegabytes(1));
+
+        byte[] original = cache.get(schedule(1L, MODIFIED_AT, 0));
+        byte[] modified = cache.get(schedule(1L, MODIFIED_AT.plusMinutes(1), 0));
+        byte[] commented = cache.get(schedule(1L, MODIFIED_AT.plusMinutes(1), 1));
+
+        assertThat(modified).isNotSameAs(original);
+        assertThat(commented).isNotSameAs(modified);
+        assertThat(new String(commented, StandardCharsets.UTF_8)).contains("\"commentCount\":1");
+        assertThat(cache.getStats().getHitCount()).isZero();
+
+        // 늦게 도착한 오래된 조회 결과가 최신 항목을 덮어쓰지 않음
+        cache.get(schedule(1L, MODIFIED_AT, 0));
+        assertThat(cache.get(schedule(1L, MODIFIED_AT.plusMinutes(1), 1))).isSameAs(commented);
+    }
+
+    @Test
+    void evictRemovesEntry() throws IOException {
+        ScheduleJsonCache cache = cache(DataSize.ofMegabytes(1));
+        byte[] first = cache.get(schedule(1L, MODIFIED_AT, 0));
+
+        cache.evict(1L);
+
+        assertThat(cache.getTotalBytes()).isZero();
+        assertThat(cache.get(schedule(1L, MODIFIED_AT, 0))).isNotSameAs(first);
+        assertThat(cache.getStats().getInvalidationCount()).isEqualTo(1);
+        assertThat(cache.getStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOldestUnreferencedEntryOverByteBudget() throws IOException {
+        ScheduleJsonCache sizing = cache(DataSize.ofMegabytes(1));
+        sizing.get(schedule(1L, MODIFIED_AT, 0));
+        long entryBytes = sizing.getTotalBytes();
+
+        ScheduleJsonCache cache = cache(DataSize.ofBytes(entryBytes * 2));
+        cache.get(schedule(1L, MODIFIED_AT, 0));
+        cache.get(schedule(1L, MODIFIED_AT, 0));    // 조회된 항목은 한 번 제거를 건너뜀
+        cache.get(schedule(2L, MODIFIED_AT, 0));
+        cache.get(schedule(3L, MODIFIED_AT, 0));
+
+        assertThat(cache.getTotalBytes()).isEqualTo(entryBytes * 2);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+        assertThat(cache.getStats().getEvictionCount()).isEqualTo(1);
+
+        long hits = cache.getStats().getHitCount();
+        cache.get(schedule(1L, MODIFIED_AT, 0));
+        cache.get(schedule(3L, MODIFIED_AT, 0));
+        assertThat(cache.getStats().getHitCount()).isEqualTo(hits + 2);
+    }
+
+    @Test
+    void pageMatchesUncachedSerialization() throws IOException {
+        ScheduleJsonCache cache = cache(DataSize.ofMegabytes(1));
+        List<ScheduleResponseDto> schedules = List.of(
+                schedule(1L, MODIFIED_AT, 0),
+                schedule(2L, MODIFIED_AT.plusMinutes(1), 3),
+                schedule(3L, MODIFIED_AT.plusMinutes(2), 10));
+
+        for (SchedulePageResponseDto<ScheduleResponseDto> page : List.of(
+                new SchedulePageResponseDto<>(schedules, "cursor"),
+                new SchedulePageResponseDto<>(schedules, null),
+                new SchedulePageResponseDto<ScheduleResponseDto>(List.of(), null))) {
+            String expected = objectMapper.writeValueAsString(page);
+            assertThat(writePage(cache, page)).isEqualTo(expected);
+            assertThat(writePage(cache, page)).isEqualTo(expected); // 캐시된 조각으로 구성한 응답
+        }
+    }
+
+    private ScheduleJsonCache cache(DataSize maxBytes) {
+        return new ScheduleJsonCache(objectMapper, maxBytes);
+    }
+
+    private static String writePage(ScheduleJsonCache cache, SchedulePageResponseDto<ScheduleResponseDto> page) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        cache.writePage(page, body);
+        return body.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ScheduleResponseDto schedule(Long id, LocalDateTime modifiedAt, int commentCount) {
+        return new ScheduleResponseDto(id, "작성자", "제목 \"" + id + "\"", "내용", commentCount, 0L, MODIFIED_AT, modifiedAt);
+    }
+}
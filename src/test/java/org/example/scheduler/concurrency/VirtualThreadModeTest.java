@@ -0,0 +1,63 @@
+package org.example.scheduler.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)로 컨텍스트가 뜨고 커넥션 허가 제한이 적용되는지 검증
+ * - 빌드는 Java 17 기준이고 가상 스레드 모드는 Java 21 이상 런타임에서만 켜지므로 그 외 JRE에서는 건너뜀
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@ActiveProfiles("h2")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionPermitLimiter connectionPermitLimiter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor taskExecutor;
+
+    @Test
+    void dataSourceIsWrappedAndPermitIsReleasedOnClose() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Integer inUseDuringTransaction = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("select count(*) from schedule", Long.class);
+            return connectionPermitLimiter.getInUse();
+        });
+
+        assertThat(dataSource).isInstanceOf(ConnectionPermitDataSource.class);
+        assertThat(inUseDuringTransaction).isEqualTo(1);
+        assertThat(connectionPermitLimiter.getInUse()).isZero();
+    }
+
+    @Test
+    void applicationTaskExecutorRunsOnVirtualThreads() throws Exception {
+        Method isVirtual = Thread.class.getMethod("isVirtual");  // Java 17로 컴파일하므로 리플렉션으로 호출
+        boolean virtual = taskExecutor.submit(() -> (Boolean) isVirtual.invoke(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+
+        assertThat(virtual).isTrue();
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.scheduler.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.service.ScheduleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 일정 상세 조회(GET)의 ETag로 조건부 수정(PATCH If-Match)이 되는지 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("memory")
+class ScheduleControllerETagTest {
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void etagFromGetIsAcceptedByPatchAndReplacedByNewEtag() throws Exception {
+        Long id = saveSchedule();
+        String etag = getETag(id);
+
+        String patchedETag = mockMvc.perform(patch("/schedules/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateBody("수정한 제목")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).matches("\"\\d+-[0-9a-f]{32}\"");
+        assertThat(patchedETag).isNotEqualTo(etag);
+        assertThat(patchedETag).isEqualTo(getETag(id));
+        mockMvc.perform(get("/schedules/{id}", id).header(HttpHeaders.IF_NONE_MATCH, patchedETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void staleEtagIsRejectedWithPreconditionFailed() throws Exception {
+        Long id = saveSchedule();
+        String etag = getETag(id);
+        mockMvc.perform(patch("/schedules/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateBody("먼저 수정한 제목")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/schedules/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateBody("나중에 수정한 제목")))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(scheduleService.getScheduleWithCommentsById(id).getSchedule().getTitle()).isEqualTo("먼저 수정한 제목");
+    }
+
+    @Test
+    void weakEtagIsRejectedWithPreconditionFailed() throws Exception {
+        Long id = saveSchedule();
+        String etag = getETag(id);
+
+        mockMvc.perform(patch("/schedules/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/" + etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateBody("수정한 제목")))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private String getETag(Long id) throws Exception {
+        return mockMvc.perform(get("/schedules/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private Long saveSchedule() {
+        ScheduleRequestDto request = objectMapper.convertValue(Map.of(
+                "name", "작성자-" + UUID.randomUUID().toString().substring(0, 8),
+                "password", PASSWORD,
+                "title", "제목",
+                "content", "내용"), ScheduleRequestDto.class);
+        ScheduleResponseDto saved = scheduleService.saveSchedule(request);
+        return saved.getId();
+    }
+
+    private String updateBody(String title) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("password", PASSWORD, "title", title));
+    }
+}
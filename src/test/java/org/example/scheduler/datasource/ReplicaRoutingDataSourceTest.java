@@ -0,0 +1,121 @@
+package org.example.scheduler.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB(primary, replica)로 읽기/쓰기 라우팅 검증
+ */
+class ReplicaRoutingDataSourceTest {
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica), new ReadYourWritesTracker(Duration.ofMinutes(1)));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(nodeIn(writeTransaction)).isEqualTo("primary");
+    }
+
+    @Test
+    void readAfterWriteFromSameClientUsesPrimary() {
+        bindClient("10.0.0.1");
+        nodeIn(writeTransaction);
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+
+        bindClient("10.0.0.2");
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void clientIdHeaderDoesNotShareReadYourWritesWindow() {
+        bindClient("10.0.0.1");
+        nodeIn(writeTransaction);
+
+        MockHttpServletRequest spoofed = new MockHttpServletRequest();
+        spoofed.setRemoteAddr("10.0.0.2");
+        spoofed.addHeader("X-Client-Id", "addr:10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(spoofed));
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void forcedPrimaryReadUsesPrimary() {
+        assertThat(PrimaryReads.call(() -> nodeIn(readOnlyTransaction))).isEqualTo("primary");
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplicaFallsBackToPrimary() {
+        routingDataSource.markReplica("replica-0", false);
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("primary");
+
+        routingDataSource.checkReplicas(1);
+        assertThat(nodeIn(readOnlyTransaction)).isEqualTo("replica");
+    }
+
+    /**
+     * 트랜잭션 안에서 연결된 DB 이름 조회 (assertThat 오버로드 모호성 방지를 위해 String으로 받음)
+     */
+    private String nodeIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private void bindClient(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(20))");
+        jdbcTemplate.execute("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.scheduler.feed;
+
+import org.example.scheduler.event.ScheduleChangeType;
+import org.example.scheduler.event.ScheduleChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경 피드 이어받기, reset, 느린 구독자 연결 종료 검증
+ * - 실제 HTTP 연결 대신 전송한 이벤트를 기록하는 SseEmitter 사용
+ */
+class ScheduleChangeFeedTest {
+    private ScheduleChangeRingBuffer ringBuffer;
+    private ScheduleChangeFeed feed;
+    private CountDownLatch sendGate;    // 열리기 전까지 새 구독 연결의 전송을 멈춤 (null이면 바로 전송)
+
+    @AfterEach
+    void tearDown() {
+        if (sendGate != null) {
+            sendGate.countDown();
+        }
+        if (feed != null) {
+            feed.shutdown();
+        }
+    }
+
+    @Test
+    void resumesAfterLastEventId() throws InterruptedException {
+        ringBuffer = new ScheduleChangeRingBuffer(16);
+        feed = feed(1000, Duration.ofSeconds(10));
+        publish(3);
+        String epoch = ringBuffer.getEpoch();
+
+        RecordingEmitter emitter = subscribe(epoch + "-1");
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-2\nevent:schedule-change\n");
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-3\nevent:schedule-change\n");
+
+        publish(1);
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-4\nevent:schedule-change\n");
+    }
+
+    @Test
+    void sendsResetWhenLastEventIdWasOverwritten() throws InterruptedException {
+        ringBuffer = new ScheduleChangeRingBuffer(4);
+        feed = feed(1000, Duration.ofSeconds(10));
+        publish(10);
+        String epoch = ringBuffer.getEpoch();
+
+        RecordingEmitter emitter = subscribe(epoch + "-1");
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-10\nevent:reset\n");
+
+        publish(1);
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-11\nevent:schedule-change\n");
+    }
+
+    @Test
+    void sendsResetForEventIdFromPreviousBoot() throws InterruptedException {
+        ringBuffer = new ScheduleChangeRingBuffer(16);
+        feed = feed(1000, Duration.ofSeconds(10));
+        publish(3);
+        String epoch = ringBuffer.getEpoch();
+
+        RecordingEmitter emitter = subscribe("previous-2");
+        assertThat(emitter.next()).startsWith("id:" + epoch + "-3\nevent:reset\n");
+    }
+
+    @Test
+    void rejectsMalformedLastEventId() {
+        ringBuffer = new ScheduleChangeRingBuffer(16);
+        feed = feed(1000, Duration.ofSeconds(10));
+
+        assertThatThrownBy(() -> feed.subscribe("42"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> feed.subscribe(ringBuffer.getEpoch() + "-x"))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void dropsSubscriberThatFallsBehindMaxLag() throws InterruptedException {
+        ringBuffer = new ScheduleChangeRingBuffer(16);
+        feed = feed(2, Duration.ofSeconds(10));
+        sendGate = new CountDownLatch(1);
+        RecordingEmitter emitter = subscribe(null);
+
+        publish(1);
+        assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        publish(5);
+        sendGate.countDown();
+
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(feed.getDroppedCount()).isEqualTo(1);
+        assertThat(feed.getSubscriberCount()).isZero();
+        assertThat(emitter.events).hasSize(1);
+    }
+
+    @Test
+    void dropsSubscriberWhoseSendTimesOut() throws InterruptedException {
+        ringBuffer = new ScheduleChangeRingBuffer(16);
+        feed = feed(1000, Duration.ofMillis(50));
+        sendGate = new CountDownLatch(1);
+        RecordingEmitter emitter = subscribe(null);
+
+        publish(1);
+        assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        feed.heartbeat();
+
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(feed.getDroppedCount()).isEqualTo(1);
+        assertThat(feed.getSubscriberCount()).isZero();
+    }
+
+    private ScheduleChangeFeed feed(int maxLag, Duration sendTimeout) {
+        return new ScheduleChangeFeed(ringBuffer, Duration.ofMinutes(1), 100, maxLag, sendTimeout) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter(sendGate);
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return (RecordingEmitter) feed.subscribe(lastEventId);
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            feed.onScheduleChanged(new ScheduleChangedEvent((long) i + 1, ScheduleChangeType.CREATED));
+        }
+    }
+
+    /**
+     * 전송한 이벤트의 문자열 부분(id, event, data 접두사)을 기록하는 SseEmitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch gate;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String part) {
+                    text.append(part);
+                }
+            }
+            events.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+        }
+
+        private String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("전송된 이벤트").isNotNull();
+            return event;
+        }
+    }
+}
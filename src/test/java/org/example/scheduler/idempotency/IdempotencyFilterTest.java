@@ -0,0 +1,160 @@
+package org.example.scheduler.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IdempotencyFilter 테스트
+ * - 같은 키의 재시도에 첫 응답(상태, 본문, Location)을 그대로 돌려주는지, 다른 본문이면 422로 거절하는지 검증
+ * - 같은 키라도 클라이언트(원격 주소, 인증 사용자)가 다르면 서로의 응답을 받지 않는지 검증
+ * - 미리 읽어 둔 본문을 비동기 읽기(ReadListener)로도 읽을 수 있는지 검증
+ */
+class IdempotencyFilterTest {
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100);
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, new IdempotencyProperties());
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final FilterChain createSchedule = (request, response) -> {
+        int id = executions.incrementAndGet();
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        httpResponse.setStatus(HttpStatus.CREATED.value());
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        httpResponse.setHeader(HttpHeaders.LOCATION, "/schedules/" + id);
+        httpResponse.getOutputStream().write(("{\"id\":" + id + ",\"request\":" + new String(body, StandardCharsets.UTF_8) + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    void retryWithSameKeyReplaysFirstResponse() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"title\":\"제목\"}", createSchedule);
+        MockHttpServletResponse retry = perform("key-1", "{\"title\":\"제목\"}", createSchedule);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(first.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(retry.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+        assertThat(retry.getHeader(HttpHeaders.LOCATION)).isEqualTo("/schedules/1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        perform("key-2", "{\"title\":\"제목\"}", createSchedule);
+        MockHttpServletResponse other = perform("key-2", "{\"title\":\"다른 제목\"}", createSchedule);
+
+        assertThat(other.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void failedResponseIsNotStoredAndRetryRunsAgain() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        };
+        perform("key-3", "{}", failing);
+        MockHttpServletResponse retry = perform("key-3", "{}", createSchedule);
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+    }
+
+    @Test
+    void sameKeyFromDifferentClientsDoesNotCollide() throws Exception {
+        MockHttpServletResponse first = perform("key-5", "10.0.0.1", null, "{\"title\":\"제목\"}", createSchedule);
+        MockHttpServletResponse otherAddress = perform("key-5", "10.0.0.2", null, "{\"title\":\"다른 제목\"}", createSchedule);
+        MockHttpServletResponse user = perform("key-5", "10.0.0.1", "user-1", "{\"title\":\"제목\"}", createSchedule);
+
+        assertThat(executions).hasValue(3);
+        assertThat(otherAddress.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(otherAddress.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(user.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(otherAddress.getHeader(HttpHeaders.LOCATION)).isNotEqualTo(first.getHeader(HttpHeaders.LOCATION));
+    }
+
+    @Test
+    void clientIdHeaderDoesNotSeparateKeys() throws Exception {
+        perform("key-6", "{\"title\":\"제목\"}", createSchedule);
+        MockHttpServletRequest spoofed = request("key-6", "127.0.0.1", null, "{\"title\":\"다른 제목\"}");
+        spoofed.addHeader("X-Client-Id", "someone-else");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(spoofed, response, createSchedule);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void cachedBodyCanBeReadWithReadListener() throws Exception {
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        FilterChain asyncReader = (request, response) -> {
+            ServletInputStream inputStream = request.getInputStream();
+            inputStream.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    byte[] buffer = new byte[4];
+                    int length;
+                    while (inputStream.isReady() && (length = inputStream.read(buffer)) != -1) {
+                        read.write(buffer, 0, length);
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+            });
+            ((HttpServletResponse) response).setStatus(HttpStatus.CREATED.value());
+        };
+
+        perform("key-4", "{\"title\":\"비동기\"}", asyncReader);
+
+        assertThat(allDataRead).isTrue();
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"title\":\"비동기\"}");
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, String body, FilterChain chain) throws Exception {
+        return perform(idempotencyKey, "127.0.0.1", null, body, chain);
+    }
+
+    private MockHttpServletResponse perform(String idempotencyKey, String remoteAddr, String userName, String body, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(idempotencyKey, remoteAddr, userName, body), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey, String remoteAddr, String userName, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/schedules");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setRemoteAddr(remoteAddr);
+        if (userName != null) {
+            request.setUserPrincipal(() -> userName);
+        }
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
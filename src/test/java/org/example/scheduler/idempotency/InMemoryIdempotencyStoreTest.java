@@ -0,0 +1,98 @@
+package org.example.scheduler.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * InMemoryIdempotencyStore 테스트
+ * - 처리 중인 같은 키의 요청이 첫 응답을 기다려 받는지, 유지 시간/최대 개수를 넘은 응답이 제거되는지 검증
+ */
+class InMemoryIdempotencyStoreTest {
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Test
+    void concurrentDuplicateWaitsForFirstResponse() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100);
+        assertThat(store.acquire("key", "body", WAIT)).isEmpty();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Optional<IdempotentResponse>> duplicate = CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            return store.acquire("key", "body", WAIT);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(duplicate).isNotDone();
+
+        IdempotentResponse response = response("{\"id\":1}");
+        store.complete("key", response);
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).containsSame(response);
+        assertThat(store.getReplayCount()).isEqualTo(1);
+    }
+
+    @Test
+    void duplicateTakesOverWhenFirstRequestReleases() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100);
+        assertThat(store.acquire("key", "body", WAIT)).isEmpty();
+
+        CompletableFuture<Optional<IdempotentResponse>> duplicate = CompletableFuture.supplyAsync(() -> store.acquire("key", "body", WAIT));
+        store.release("key");
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    void inFlightDuplicateTimesOutWithConflict() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100);
+        assertThat(store.acquire("key", "body", WAIT)).isEmpty();
+
+        assertThatThrownBy(() -> store.acquire("key", "body", Duration.ZERO))
+                .isInstanceOfSatisfying(IdempotencyConflictException.class, e -> assertThat(e.getStatus()).isEqualTo(409));
+    }
+
+    @Test
+    void differentFingerprintIsRejected() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100);
+        assertThat(store.acquire("key", "body", WAIT)).isEmpty();
+        store.complete("key", response("{}"));
+
+        assertThatThrownBy(() -> store.acquire("key", "other", WAIT))
+                .isInstanceOfSatisfying(IdempotencyConflictException.class, e -> assertThat(e.getStatus()).isEqualTo(422));
+    }
+
+    @Test
+    void expiredResponseIsNotReplayed() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ZERO, 100);
+        assertThat(store.acquire("key", "body", WAIT)).isEmpty();
+        store.complete("key", response("{}"));
+
+        assertThat(store.acquire("key", "other", WAIT)).isEmpty();
+        assertThat(store.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void oldestResponseIsEvictedOverMaxSize() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofHours(1), 1);
+        store.acquire("first", "body", WAIT);
+        store.complete("first", response("{\"id\":1}"));
+        store.acquire("second", "body", WAIT);
+        store.complete("second", response("{\"id\":2}"));
+
+        assertThat(store.getSize()).isEqualTo(1);
+        assertThat(store.acquire("first", "body", WAIT)).isEmpty();
+        assertThat(store.acquire("second", "body", WAIT)).isPresent();
+    }
+
+    private static IdempotentResponse response(String body) {
+        return new IdempotentResponse(201, "application/json", null, null, body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.scheduler.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.comment.CommentIngestResponseDto;
+import org.example.scheduler.dto.comment.CommentIngestStatus;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.ScheduleRequestDto;
+import org.example.scheduler.dto.schedule.ScheduleResponseDto;
+import org.example.scheduler.service.CommentService;
+import org.example.scheduler.service.ScheduleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 댓글 지연 저장(write-behind) 모드 테스트
+ * - 접수한 댓글이 comment-writer에서 저장되는지, 실패한 접수가 대기열 자리를 반납하는지 검증
+ * - 저장 완료는 폴링 대신 CommentIngestQueue.awaitIdle로 확인
+ */
+@SpringBootTest(properties = "scheduler.comment.ingest.mode=write-behind")
+@ActiveProfiles("h2")
+class CommentWriteBehindTest {
+    private static final String PASSWORD = "password";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentIngestQueue commentIngestQueue;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void acceptedCommentIsSavedByWriterWithinLimit() throws InterruptedException {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest());
+        commentService.saveComments(IntStream.range(0, 9)
+                .mapToObj(i -> commentRequest("댓글" + i))
+                .collect(Collectors.toList()), schedule.getId());
+
+        CommentIngestResponseDto accepted = commentService.acceptComment(commentRequest("접수 댓글"), schedule.getId());
+        assertThat(accepted.getStatus()).isEqualTo(CommentIngestStatus.PENDING);
+        assertThatThrownBy(() -> commentService.acceptComment(commentRequest("초과"), schedule.getId()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+
+        assertThat(commentIngestQueue.awaitIdle(TIMEOUT)).isTrue();
+        CommentIngestResponseDto status = commentService.getIngestStatus(accepted.getTrackingId());
+        assertThat(status.getStatus()).isEqualTo(CommentIngestStatus.SAVED);
+        assertThat(scheduleService.getScheduleWithCommentsById(schedule.getId()).getComments())
+                .extracting(CommentResponseDto::getId)
+                .contains(status.getCommentId());
+    }
+
+    @Test
+    void rejectedCommentReleasesQueueSlot() throws InterruptedException {
+        assertThatThrownBy(() -> commentService.acceptComment(commentRequest("댓글"), Long.MAX_VALUE))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+
+        assertThat(commentIngestQueue.awaitIdle(TIMEOUT)).isTrue();
+        assertThat(commentIngestQueue.getQueueSize()).isZero();
+    }
+
+    private ScheduleRequestDto scheduleRequest() {
+        return objectMapper.convertValue(Map.of(
+                "name", "작성자-" + UUID.randomUUID().toString().substring(0, 8),
+                "password", PASSWORD,
+                "title", "제목",
+                "content", "내용"), ScheduleRequestDto.class);
+    }
+
+    private CommentRequestDto commentRequest(String content) {
+        return objectMapper.convertValue(Map.of(
+                "name", "댓글작성자",
+                "password", PASSWORD,
+                "content", content), CommentRequestDto.class);
+    }
+}
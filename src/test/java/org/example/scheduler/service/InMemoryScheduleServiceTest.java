@@ -0,0 +1,12 @@
+package org.example.scheduler.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 프로세스 내 자료구조 저장소(memory 프로필)로 서비스 공통 테스트 실행
+ */
+@SpringBootTest
+@ActiveProfiles("memory")
+class InMemoryScheduleServiceTest extends ScheduleServiceContractTest {
+}
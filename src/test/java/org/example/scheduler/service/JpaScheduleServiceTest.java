@@ -0,0 +1,12 @@
+package org.example.scheduler.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * JPA 저장소(H2 인메모리 DB)로 서비스 공통 테스트 실행
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class JpaScheduleServiceTest extends ScheduleServiceContractTest {
+}
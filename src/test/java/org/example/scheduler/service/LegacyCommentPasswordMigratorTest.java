@@ -0,0 +1,48 @@
+package org.example.scheduler.service;
+
+import org.example.scheduler.entity.Comment;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.repository.CommentRepository;
+import org.example.scheduler.repository.ScheduleRepository;
+import org.example.scheduler.security.PasswordHasher;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해시 도입 전 평문 댓글 비밀번호 교체 검증 (H2 인메모리 DB)
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class LegacyCommentPasswordMigratorTest {
+
+    @Autowired
+    private LegacyCommentPasswordMigrator migrator;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Test
+    void plaintextCommentPasswordIsReplacedWithHash() throws InterruptedException {
+        Schedule schedule = scheduleRepository.save(new Schedule("작성자", passwordHasher.hash("password"), "제목", "내용"));
+        Comment legacy = commentRepository.save(new Comment("댓글 작성자", "legacy-password", "댓글", schedule.getId()));
+        Comment hashed = commentRepository.save(new Comment("댓글 작성자", passwordHasher.hash("password"), "댓글", schedule.getId()));
+
+        migrator.migrate();
+
+        String upgraded = commentRepository.findById(legacy.getId()).orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("{");
+        assertThat(passwordHasher.matches("legacy-password", upgraded)).isTrue();
+        assertThat(commentRepository.findById(hashed.getId()).orElseThrow().getPassword()).isEqualTo(hashed.getPassword());
+        assertThat(commentRepository.findLegacyPasswords(0, 100)).isEmpty();
+    }
+}
@@ -0,0 +1,268 @@
+package org.example.scheduler.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.scheduler.dto.author.AuthorResponseDto;
+import org.example.scheduler.dto.batch.BatchResponseDto;
+import org.example.scheduler.dto.comment.CommentRequestDto;
+import org.example.scheduler.dto.comment.CommentResponseDto;
+import org.example.scheduler.dto.schedule.*;
+import org.example.scheduler.entity.Schedule;
+import org.example.scheduler.storage.ScheduleStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 저장소 구현과 관계없이 서비스가 같은 결과를 내는지 검증하는 공통 테스트
+ * - 구현별 하위 클래스가 프로필만 바꿔 같은 테스트를 실행 (JpaScheduleServiceTest, InMemoryScheduleServiceTest)
+ * - 테스트끼리 데이터가 섞이지 않도록 테스트마다 고유한 작성자명 사용
+ */
+abstract class ScheduleServiceContractTest {
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private ScheduleStore scheduleStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void savedScheduleIsReturnedWithNewestCommentsFirst() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+        CommentResponseDto first = commentService.saveComment(commentRequest("첫 댓글"), schedule.getId());
+        CommentResponseDto second = commentService.saveComment(commentRequest("두번째 댓글"), schedule.getId());
+
+        ScheduleWithCommentsResponseDto found = scheduleService.getScheduleWithCommentsById(schedule.getId());
+
+        assertThat(found.getSchedule().getTitle()).isEqualTo("제목");
+        assertThat(found.getSchedule().getCommentCount()).isEqualTo(2);
+        assertThat(found.getComments()).extracting(CommentResponseDto::getId).containsExactly(second.getId(), first.getId());
+    }
+
+    @Test
+    void listByNamePagesNewestFirstWithCursor() {
+        String name = uniqueName();
+        List<Long> ids = IntStream.range(0, 3)
+                .mapToObj(i -> scheduleService.saveSchedule(scheduleRequest(name, "제목" + i)).getId())
+                .collect(Collectors.toList());
+
+        SchedulePageResponseDto<ScheduleResponseDto> firstPage = scheduleService.getSchedulesByName(name, null, 2);
+        SchedulePageResponseDto<ScheduleResponseDto> secondPage = scheduleService.getSchedulesByName(name, firstPage.getNextCursor(), 2);
+
+        assertThat(firstPage.getSchedules()).extracting(ScheduleResponseDto::getId).containsExactly(ids.get(2), ids.get(1));
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getSchedules()).extracting(ScheduleResponseDto::getId).containsExactly(ids.get(0));
+        assertThat(secondPage.isHasNext()).isFalse();
+    }
+
+    @Test
+    void searchFiltersByCreatedAtRange() {
+        String name = uniqueName();
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(name, "제목"));
+        LocalDateTime createdAt = schedule.getCreatedAt();
+
+        SchedulePageResponseDto<ScheduleResponseDto> inRange = scheduleService.searchSchedules(
+                new ScheduleSearchCondition(name, ScheduleDateField.CREATED_AT, createdAt.minusMinutes(1), createdAt.plusMinutes(1)), null, 10);
+        SchedulePageResponseDto<ScheduleResponseDto> beforeRange = scheduleService.searchSchedules(
+                new ScheduleSearchCondition(name, ScheduleDateField.CREATED_AT, createdAt.minusMinutes(2), createdAt.minusMinutes(1)), null, 10);
+
+        assertThat(inRange.getSchedules()).extracting(ScheduleResponseDto::getId).containsExactly(schedule.getId());
+        assertThat(beforeRange.getSchedules()).isEmpty();
+    }
+
+    @Test
+    void bucketsCountSchedulesPerDay() {
+        String name = uniqueName();
+        scheduleService.saveSchedule(scheduleRequest(name, "제목1"));
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(name, "제목2"));
+        LocalDateTime day = schedule.getCreatedAt().toLocalDate().atStartOfDay();
+
+        List<ScheduleBucketResponseDto> buckets = scheduleService.getScheduleBuckets(
+                new ScheduleSearchCondition(name, ScheduleDateField.CREATED_AT, day, day.plusDays(1)), ScheduleBucketUnit.DAY);
+
+        assertThat(buckets).hasSize(1);
+        assertThat(buckets.get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void updateChecksPasswordAndChangesTitle() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+
+        assertThatThrownBy(() -> scheduleService.updateSchedule(schedule.getId(), updateRequest("wrong", "새 제목")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+
+        ScheduleResponseDto updated = scheduleService.updateSchedule(schedule.getId(), updateRequest(PASSWORD, "새 제목"));
+
+        assertThat(updated.getTitle()).isEqualTo("새 제목");
+        assertThat(scheduleService.getScheduleWithCommentsById(schedule.getId()).getSchedule().getTitle()).isEqualTo("새 제목");
+    }
+
+    @Test
+    void updateWithStaleVersionConflicts() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+        ScheduleResponseDto first = scheduleService.updateSchedule(schedule.getId(), updateRequest(PASSWORD, "첫 수정"), schedule.getVersion());
+
+        assertThat(first.getVersion()).isEqualTo(schedule.getVersion() + 1);
+        assertThatThrownBy(() -> scheduleService.updateSchedule(schedule.getId(), updateRequest(PASSWORD, "두번째 수정"), schedule.getVersion()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(scheduleService.getScheduleWithCommentsById(schedule.getId()).getSchedule().getTitle()).isEqualTo("첫 수정");
+    }
+
+    @Test
+    void passwordIsStoredHashedAndLegacyPlaintextIsRehashedOnUpdate() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+        assertThat(scheduleStore.findCredentialById(schedule.getId()).orElseThrow().getPassword())
+                .isNotEqualTo(PASSWORD)
+                .startsWith("{");
+
+        ScheduleResponseDto legacy = scheduleStore.save(new Schedule(uniqueName(), PASSWORD, "제목", "내용"));
+        scheduleService.updateSchedule(legacy.getId(), updateRequest(PASSWORD, "새 제목"));
+
+        assertThat(scheduleStore.findCredentialById(legacy.getId()).orElseThrow().getPassword())
+                .isNotEqualTo(PASSWORD)
+                .startsWith("{");
+        assertThat(scheduleService.updateSchedule(legacy.getId(), updateRequest(PASSWORD, "다시 수정")).getTitle()).isEqualTo("다시 수정");
+    }
+
+    @Test
+    void batchSchedulesWithSamePasswordGetIndependentHashes() {
+        BatchResponseDto<ScheduleResponseDto> saved = scheduleService.saveSchedules(List.of(
+                scheduleRequest(uniqueName(), "첫 일정"),
+                scheduleRequest(uniqueName(), "두번째 일정")));
+
+        List<String> hashes = saved.getResults().stream()
+                .map(result -> scheduleStore.findCredentialById(result.getData().getId()).orElseThrow().getPassword())
+                .toList();
+        assertThat(hashes).doesNotHaveDuplicates();
+        assertThat(scheduleService.updateSchedule(saved.getResults().get(1).getData().getId(), updateRequest(PASSWORD, "새 제목")).getTitle())
+                .isEqualTo("새 제목");
+    }
+
+    @Test
+    void deleteRemovesScheduleAndComments() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+        commentService.saveComment(commentRequest("댓글"), schedule.getId());
+
+        scheduleService.deleteSchedule(schedule.getId(), objectMapper.convertValue(Map.of("password", PASSWORD), ScheduleDeleteRequestDto.class));
+
+        assertThatThrownBy(() -> scheduleService.getScheduleWithCommentsById(schedule.getId()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThat(scheduleService.getSchedulesWithCommentsByIds(List.of(schedule.getId()), 10)).isEmpty();
+    }
+
+    @Test
+    void authorSearchMatchesPrefixIgnoringCaseAndFollowsWrites() {
+        String prefix = "Author" + UUID.randomUUID().toString().substring(0, 8);
+        ScheduleResponseDto upper = scheduleService.saveSchedule(scheduleRequest(prefix + "-KIM", "제목"));
+        scheduleService.saveSchedule(scheduleRequest(prefix + "-kim", "제목"));
+        scheduleService.saveSchedule(scheduleRequest(prefix + "-kim", "제목"));
+        ScheduleResponseDto lee = scheduleService.saveSchedule(scheduleRequest(prefix + "-lee", "제목"));
+
+        assertThat(scheduleService.searchAuthors(prefix.toLowerCase() + "-k", 10))
+                .extracting(AuthorResponseDto::getName, AuthorResponseDto::getScheduleCount)
+                .containsExactly(tuple(prefix + "-KIM", 1L), tuple(prefix + "-kim", 2L));
+        assertThat(scheduleService.searchAuthors(prefix, 1)).hasSize(1);
+
+        scheduleService.updateSchedule(upper.getId(), objectMapper.convertValue(
+                Map.of("password", PASSWORD, "name", prefix + "-park"), ScheduleUpdateRequestDto.class));
+        scheduleService.deleteSchedule(lee.getId(), objectMapper.convertValue(Map.of("password", PASSWORD), ScheduleDeleteRequestDto.class));
+
+        assertThat(scheduleService.searchAuthors(prefix.toUpperCase(), 10))
+                .extracting(AuthorResponseDto::getName)
+                .containsExactly(prefix + "-kim", prefix + "-park");
+    }
+
+    @Test
+    void commentsAreLimitedPerSchedule() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+        List<CommentRequestDto> comments = IntStream.range(0, 10)
+                .mapToObj(i -> commentRequest("댓글" + i))
+                .collect(Collectors.toList());
+
+        assertThat(commentService.saveComments(comments, schedule.getId()).getSuccessCount()).isEqualTo(10);
+        assertThatThrownBy(() -> commentService.saveComment(commentRequest("초과"), schedule.getId()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void commentOnMissingScheduleIsNotFound() {
+        assertThatThrownBy(() -> commentService.saveComment(commentRequest("댓글"), Long.MAX_VALUE))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    void markDeletedUpdatesOnlyOnce() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+
+        Integer first = transactionTemplate.execute(status -> scheduleStore.markDeleted(schedule.getId()));
+        Integer second = transactionTemplate.execute(status -> scheduleStore.markDeleted(schedule.getId()));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(scheduleStore.findResponseById(schedule.getId())).isEmpty();
+    }
+
+    @Test
+    void lockForCommentsOnlyFindsLiveSchedule() {
+        ScheduleResponseDto schedule = scheduleService.saveSchedule(scheduleRequest(uniqueName(), "제목"));
+
+        Boolean live = transactionTemplate.execute(status -> scheduleStore.lockForComments(schedule.getId()));
+        transactionTemplate.executeWithoutResult(status -> scheduleStore.markDeleted(schedule.getId()));
+        Boolean deleted = transactionTemplate.execute(status -> scheduleStore.lockForComments(schedule.getId()));
+        Boolean missing = transactionTemplate.execute(status -> scheduleStore.lockForComments(Long.MAX_VALUE));
+
+        assertThat(live).isTrue();
+        assertThat(deleted).isFalse();
+        assertThat(missing).isFalse();
+    }
+
+    private String uniqueName() {
+        return "작성자-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private ScheduleRequestDto scheduleRequest(String name, String title) {
+        return objectMapper.convertValue(Map.of(
+                "name", name,
+                "password", PASSWORD,
+                "title", title,
+                "content", "내용"), ScheduleRequestDto.class);
+    }
+
+    private ScheduleUpdateRequestDto updateRequest(String password, String title) {
+        return objectMapper.convertValue(Map.of("password", password, "title", title), ScheduleUpdateRequestDto.class);
+    }
+
+    private CommentRequestDto commentRequest(String content) {
+        return objectMapper.convertValue(Map.of(
+                "name", "댓글작성자",
+                "password", PASSWORD,
+                "content", content), CommentRequestDto.class);
+    }
+}